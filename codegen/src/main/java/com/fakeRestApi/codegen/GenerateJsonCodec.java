@@ -0,0 +1,17 @@
+package com.fakeRestApi.codegen;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requests a compile-time generated, reflection-free JSON codec for a record.
+ * The codec is generated as {@code <RecordName>JsonCodec} in the record's package.
+ * Supported component types are String, boxed and primitive int, long, double and boolean.
+ * {@code @JsonInclude(NON_NULL)} and {@code @JsonIgnoreProperties(ignoreUnknown = true)} on the record are honored.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface GenerateJsonCodec {
+}
@@ -0,0 +1,220 @@
+package com.fakeRestApi.codegen;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates Jackson streaming-API codecs for records annotated with {@link GenerateJsonCodec}.
+ * Generated codecs implement {@code com.fakeRestApi.serialization.JsonCodec} and use neither reflection
+ * nor bean introspection: fields are written in component order and read through a switch on the field name.
+ * Values are not coerced: a field whose token does not match the component type fails with a
+ * {@code JsonParseException}, while {@code null} reads as {@code null} or the primitive default.
+ */
+@SupportedAnnotationTypes("com.fakeRestApi.codegen.GenerateJsonCodec")
+@SupportedSourceVersion(SourceVersion.RELEASE_21)
+public class JsonCodecProcessor extends AbstractProcessor {
+
+    private static final String JSON_INCLUDE = "com.fasterxml.jackson.annotation.JsonInclude";
+    private static final String JSON_IGNORE_PROPERTIES = "com.fasterxml.jackson.annotation.JsonIgnoreProperties";
+    private static final String STRING = "token == JsonToken.VALUE_STRING";
+    private static final String INTEGER = "token == JsonToken.VALUE_NUMBER_INT";
+    private static final String NUMBER = "token.isNumeric()";
+    private static final String BOOLEAN = "token.isBoolean()";
+
+    /** Jackson read/write calls and accepted value tokens per supported component type */
+    private static final Map<String, Accessors> ACCESSORS = Map.of(
+            "java.lang.String", new Accessors("gen.writeString(%s)", "p.getText()", STRING, "string", false),
+            "java.lang.Integer", new Accessors("gen.writeNumber(%s)", "p.getIntValue()", INTEGER, "integer", false),
+            "int", new Accessors("gen.writeNumber(%s)", "p.getIntValue()", INTEGER, "integer", true),
+            "java.lang.Long", new Accessors("gen.writeNumber(%s)", "p.getLongValue()", INTEGER, "integer", false),
+            "long", new Accessors("gen.writeNumber(%s)", "p.getLongValue()", INTEGER, "integer", true),
+            "java.lang.Double", new Accessors("gen.writeNumber(%s)", "p.getDoubleValue()", NUMBER, "number", false),
+            "double", new Accessors("gen.writeNumber(%s)", "p.getDoubleValue()", NUMBER, "number", true),
+            "java.lang.Boolean", new Accessors("gen.writeBoolean(%s)", "p.getBooleanValue()", BOOLEAN, "boolean", false),
+            "boolean", new Accessors("gen.writeBoolean(%s)", "p.getBooleanValue()", BOOLEAN, "boolean", true));
+
+    /**
+     * @param write     generator call, with {@code %s} for the value
+     * @param read      parser call that reads the current token without coercing it
+     * @param accepts   condition on {@code token} that holds for values {@code read} may be called on
+     * @param expected  JSON type named in the error for any other token
+     * @param primitive whether the component type is primitive
+     */
+    private record Accessors(String write, String read, String accepts, String expected, boolean primitive) {}
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateJsonCodec.class)) {
+            if (element.getKind() != ElementKind.RECORD) {
+                error(element, "@GenerateJsonCodec is only supported on records");
+                continue;
+            }
+            try {
+                generate((TypeElement) element);
+            } catch (IOException e) {
+                error(element, "Failed to generate JSON codec: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement record) throws IOException {
+        String packageName = ((PackageElement) record.getEnclosingElement()).getQualifiedName().toString();
+        String recordName = record.getSimpleName().toString();
+        String codecName = recordName + "JsonCodec";
+        List<? extends RecordComponentElement> components = record.getRecordComponents();
+        boolean skipNulls = "NON_NULL".equals(annotationValue(record, JSON_INCLUDE, "value"));
+        boolean ignoreUnknown = "true".equals(annotationValue(record, JSON_IGNORE_PROPERTIES, "ignoreUnknown"));
+
+        StringBuilder src = new StringBuilder();
+        src.append("package ").append(packageName).append(";\n\n")
+                .append("import com.fasterxml.jackson.core.JsonGenerator;\n")
+                .append("import com.fasterxml.jackson.core.JsonParseException;\n")
+                .append("import com.fasterxml.jackson.core.JsonParser;\n")
+                .append("import com.fasterxml.jackson.core.JsonToken;\n")
+                .append("import com.fakeRestApi.serialization.JsonCodec;\n\n")
+                .append("import java.io.IOException;\n\n")
+                .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("public final class ").append(codecName).append(" implements JsonCodec<").append(recordName).append("> {\n\n");
+
+        src.append("    @Override\n")
+                .append("    public Class<").append(recordName).append("> type() {\n")
+                .append("        return ").append(recordName).append(".class;\n")
+                .append("    }\n\n");
+
+        src.append("    @Override\n")
+                .append("    public void write(JsonGenerator gen, ").append(recordName).append(" value) throws IOException {\n")
+                .append("        if (value == null) {\n")
+                .append("            gen.writeNull();\n")
+                .append("            return;\n")
+                .append("        }\n")
+                .append("        gen.writeStartObject();\n");
+        for (RecordComponentElement component : components) {
+            Accessors accessors = accessors(component);
+            if (accessors == null) return;
+            String name = component.getSimpleName().toString();
+            String getter = "value." + name + "()";
+            String write = "gen.writeFieldName(\"" + name + "\");\n            " + accessors.write().formatted(getter) + ";";
+            if (accessors.primitive()) {
+                src.append("        gen.writeFieldName(\"").append(name).append("\");\n")
+                        .append("        ").append(accessors.write().formatted(getter)).append(";\n");
+            } else if (skipNulls) {
+                src.append("        if (").append(getter).append(" != null) {\n")
+                        .append("            ").append(write).append("\n")
+                        .append("        }\n");
+            } else {
+                src.append("        if (").append(getter).append(" != null) {\n")
+                        .append("            ").append(write).append("\n")
+                        .append("        } else {\n")
+                        .append("            gen.writeNullField(\"").append(name).append("\");\n")
+                        .append("        }\n");
+            }
+        }
+        src.append("        gen.writeEndObject();\n")
+                .append("    }\n\n");
+
+        src.append("    @Override\n")
+                .append("    public ").append(recordName).append(" read(JsonParser p) throws IOException {\n")
+                .append("        JsonToken start = p.currentToken() == null ? p.nextToken() : p.currentToken();\n")
+                .append("        if (start == null || start == JsonToken.VALUE_NULL) return null;\n")
+                .append("        if (start != JsonToken.START_OBJECT) {\n")
+                .append("            throw new JsonParseException(p, \"Expected JSON object for ").append(recordName).append(" but was \" + start);\n")
+                .append("        }\n");
+        for (RecordComponentElement component : components) {
+            String type = component.asType().toString();
+            src.append("        ").append(type.replace("java.lang.", "")).append(' ').append(component.getSimpleName())
+                    .append(" = ").append(defaultValue(type)).append(";\n");
+        }
+        src.append("        while (p.nextToken() == JsonToken.FIELD_NAME) {\n")
+                .append("            String field = p.currentName();\n")
+                .append("            JsonToken token = p.nextToken();\n")
+                .append("            switch (field) {\n");
+        for (RecordComponentElement component : components) {
+            Accessors accessors = ACCESSORS.get(component.asType().toString());
+            String name = component.getSimpleName().toString();
+            String nullValue = accessors.primitive() ? defaultValue(component.asType().toString()) : "null";
+            src.append("                case \"").append(name).append("\" -> {\n")
+                    .append("                    if (token == JsonToken.VALUE_NULL) {\n")
+                    .append("                        ").append(name).append(" = ").append(nullValue).append(";\n")
+                    .append("                    } else if (").append(accessors.accepts()).append(") {\n")
+                    .append("                        ").append(name).append(" = ").append(accessors.read()).append(";\n")
+                    .append("                    } else {\n")
+                    .append("                        throw new JsonParseException(p, \"Expected ").append(accessors.expected())
+                    .append(" for field '").append(name).append("' of ").append(recordName).append(" but was \" + token);\n")
+                    .append("                    }\n")
+                    .append("                }\n");
+        }
+        if (ignoreUnknown) {
+            src.append("                default -> p.skipChildren();\n");
+        } else {
+            src.append("                default -> throw new JsonParseException(p, \"Unknown field '\" + field + \"' for ")
+                    .append(recordName).append("\");\n");
+        }
+        src.append("            }\n")
+                .append("        }\n")
+                .append("        return new ").append(recordName).append('(');
+        for (int i = 0; i < components.size(); i++) {
+            if (i > 0) src.append(", ");
+            src.append(components.get(i).getSimpleName());
+        }
+        src.append(");\n")
+                .append("    }\n")
+                .append("}\n");
+
+        try (Writer writer = processingEnv.getFiler()
+                .createSourceFile(packageName + "." + codecName, record)
+                .openWriter()) {
+            writer.write(src.toString());
+        }
+    }
+
+    private Accessors accessors(RecordComponentElement component) {
+        Accessors accessors = ACCESSORS.get(component.asType().toString());
+        if (accessors == null) {
+            error(component, "Unsupported component type for @GenerateJsonCodec: " + component.asType());
+        }
+        return accessors;
+    }
+
+    private static String defaultValue(String type) {
+        return switch (type) {
+            case "int", "long" -> "0";
+            case "double" -> "0.0";
+            case "boolean" -> "false";
+            default -> "null";
+        };
+    }
+
+    private static String annotationValue(Element element, String annotationType, String attribute) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (!mirror.getAnnotationType().toString().equals(annotationType)) continue;
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+                    String value = entry.getValue().getValue().toString();
+                    return value.substring(value.lastIndexOf('.') + 1);
+                }
+            }
+        }
+        return null;
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
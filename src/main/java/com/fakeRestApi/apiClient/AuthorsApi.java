@@ -1,9 +1,12 @@
 package com.fakeRestApi.apiClient;
 
 import com.fakeRestApi.models.Author;
+import com.fakeRestApi.utils.BatchResult;
 import com.fakeRestApi.utils.ResponseParser;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
+
 /**
  * API client for /Authors endpoints.
  */
@@ -13,6 +16,14 @@ public class AuthorsApi extends BaseApi<Author> {
     public static final String AUTHORS_PATH = "/Authors";
     private static final String AUTHORS_BY_BOOK_PATH = AUTHORS_PATH + "/authors/books/{idBook}";
 
+    private static final RequestTemplate GET_AUTHORS = RequestTemplate.get(AUTHORS_PATH);
+    private static final RequestTemplate GET_AUTHOR = RequestTemplate.get(AUTHORS_PATH + "/{id}");
+    private static final RequestTemplate GET_AUTHORS_BY_BOOK = RequestTemplate.get(AUTHORS_BY_BOOK_PATH);
+    private static final RequestTemplate CREATE_AUTHOR = RequestTemplate.post(AUTHORS_PATH);
+    private static final RequestTemplate UPDATE_AUTHOR = RequestTemplate.put(AUTHORS_PATH + "/{id}");
+    private static final RequestTemplate DELETE_AUTHOR = RequestTemplate.delete(AUTHORS_PATH + "/{id}");
+    private static final RequestTemplate DELETE_AUTHORS = RequestTemplate.delete(AUTHORS_PATH);
+
     public AuthorsApi() {
         super(Author.class);
     }
@@ -20,32 +31,40 @@ public class AuthorsApi extends BaseApi<Author> {
     /** GET /Authors — Retrieve all authors */
     public ResponseParser<Author> getAuthors() {
         log.info("Fetching all authors.");
-        ResponseParser<Author> response = get(AUTHORS_PATH);
-        log.info("Received {} authors.", response.getJsonPath().getList("$").size());
+        ResponseParser<Author> response = send(GET_AUTHORS);
+        log.info("Received {} authors.", response.size());
         return response;
     }
 
     /** GET /Authors/{id} — Retrieve author by ID */
     public ResponseParser<Author> getAuthorById(Object id) {
         log.info("Fetching author with ID {}.", id);
-        ResponseParser<Author> response = get(AUTHORS_PATH + "/{id}", "id", id);
+        ResponseParser<Author> response = send(GET_AUTHOR, id);
         log.info("Fetched author: {}", response.asPojo());
         return response;
     }
 
+    /** GET /Authors/{id} for many IDs — Retrieve authors in parallel with bounded concurrency, keyed by ID */
+    public <K> BatchResult<K, Author> getAuthorsByIds(Collection<K> ids) {
+        log.info("Fetching {} authors by ID.", ids.size());
+        BatchResult<K, Author> result = sendAll(GET_AUTHOR, ids);
+        log.info("Fetched {} authors in {} ms, {} failed.", result.size(), result.elapsed().toMillis(), result.failures().size());
+        return result;
+    }
+
     /** GET /Authors/authors/books/{idBook} — Retrieve authors by book ID */
     public ResponseParser<Author> getAuthorsByBookId(Object idBook) {
         log.info("Fetching authors for book ID {}.", idBook);
-        ResponseParser<Author> response = get(AUTHORS_BY_BOOK_PATH, "idBook", idBook);
+        ResponseParser<Author> response = send(GET_AUTHORS_BY_BOOK, idBook);
         log.info("Retrieved {} authors linked to book {}.",
-                response.getJsonPath().getList("$").size(), idBook);
+                response.size(), idBook);
         return response;
     }
 
     /** POST /Authors — Create a new author */
     public ResponseParser<Author> createAuthor(Author author) {
         log.info("Creating new author: {}", author);
-        ResponseParser<Author> response = post(AUTHORS_PATH, author);
+        ResponseParser<Author> response = sendWithBody(CREATE_AUTHOR, author);
         log.info("Created author: {}", response.asPojo());
         return response;
     }
@@ -53,16 +72,40 @@ public class AuthorsApi extends BaseApi<Author> {
     /** PUT /Authors/{id} — Update existing author */
     public ResponseParser<Author> updateAuthor(Object id, Author updatedAuthor) {
         log.info("Updating author ID {}: {}", id, updatedAuthor);
-        ResponseParser<Author> response = put(AUTHORS_PATH + "/{id}", "id", id, updatedAuthor);
+        ResponseParser<Author> response = sendWithBody(UPDATE_AUTHOR, updatedAuthor, id);
         log.info("Updated author ID {} successfully.", id);
         return response;
     }
 
+    /** POST /Authors — Create a new author from a pre-serialized JSON body */
+    public ResponseParser<Author> createAuthorRaw(byte[] body) {
+        log.info("Creating new author from {} byte body.", body.length);
+        return sendWithBody(CREATE_AUTHOR, body);
+    }
+
+    /** POST /Authors — Send a create request without a body */
+    public ResponseParser<Author> createAuthorWithoutBody() {
+        log.info("Creating author without a request body.");
+        return sendWithBody(CREATE_AUTHOR, null);
+    }
+
+    /** PUT /Authors/{id} — Update existing author from a pre-serialized JSON body */
+    public ResponseParser<Author> updateAuthorRaw(Object id, byte[] body) {
+        log.info("Updating author ID {} from {} byte body.", id, body.length);
+        return sendWithBody(UPDATE_AUTHOR, body, id);
+    }
+
     /** DELETE /Authors/{id} — Delete author */
     public ResponseParser<Author> deleteAuthor(Object id) {
         log.info("Deleting author ID {}.", id);
-        ResponseParser<Author> response = delete(AUTHORS_PATH + "/{id}", "id", id);
+        ResponseParser<Author> response = send(DELETE_AUTHOR, id);
         log.info("Deleted author ID {}.", id);
         return response;
     }
-}
\ No newline at end of file
+
+    /** DELETE /Authors — Send a delete request without an author ID */
+    public ResponseParser<Author> deleteAuthors() {
+        log.info("Deleting authors without an ID.");
+        return send(DELETE_AUTHORS);
+    }
+}
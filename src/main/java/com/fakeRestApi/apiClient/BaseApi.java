@@ -1,141 +1,135 @@
 package com.fakeRestApi.apiClient;
 
 import com.fakeRestApi.config.ConfigHandler;
+import com.fakeRestApi.utils.BatchResult;
+import com.fakeRestApi.utils.DetachedResponse;
 import com.fakeRestApi.utils.ResponseParser;
-import io.qameta.allure.restassured.AllureRestAssured;
-import io.restassured.builder.RequestSpecBuilder;
-import io.restassured.filter.Filter;
-import io.restassured.filter.log.LogDetail;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
-import io.restassured.http.ContentType;
-import io.restassured.response.Response;
-import io.restassured.specification.RequestSpecification;
 
-import java.util.ArrayList;
-import java.util.List;
-
-import static io.restassured.RestAssured.given;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 /**
  * Base API client providing reusable HTTP operations and shared configuration.
+ * Calls go through the {@link HttpTransport} selected in ConfigHandler; RestAssured by default.
  *
  * @param <T> entity type used for deserialization (e.g., Author, Book)
  */
 public abstract class BaseApi<T> {
 
-    protected final RequestSpecification requestSpecification;
     private final Class<T> entityClass;
+    private final HttpTransport transport;
 
     /**
-     * Initializes a new BaseApi with default configuration and optional logging.
-     * Loads base URL and log level from ConfigHandler.
+     * Initializes a new BaseApi with the configured transport.
      * @param entityClass class type used for response deserialization
      */
     protected BaseApi(Class<T> entityClass) {
         this.entityClass = entityClass;
-
-        String baseUrl = ConfigHandler.getBaseUrl();
-        String logLevel = ConfigHandler.getLogLevel();
-
-        List<Filter> filters = new ArrayList<>();
-        filters.add(new AllureRestAssured());
-
-        if (isVerbose(logLevel)) {
-            filters.add(new RequestLoggingFilter());
-            filters.add(new ResponseLoggingFilter());
-        }
-
-        this.requestSpecification = new RequestSpecBuilder()
-                .setBaseUri(baseUrl)
-                .setContentType(ContentType.JSON)
-                .setAccept(ContentType.JSON)
-                .addFilters(filters)
-                .build()
-                .log().ifValidationFails(LogDetail.ALL);
-    }
-
-    /**
-     * Checks whether the configured log level is verbose.
-     * @param level log level string (DEBUG or TRACE)
-     * @return true if verbose logging should be enabled
-     */
-    private boolean isVerbose(String level) {
-        return "DEBUG".equalsIgnoreCase(level) || "TRACE".equalsIgnoreCase(level);
+        this.transport = HttpTransport.configured(new RestAssuredTransport());
     }
 
     /**
-     * Returns a base RestAssured RequestSpecification for reuse.
-     * @return RequestSpecification instance
+     * Sends a request without a body from a prebuilt template.
+     * @param template request template of the endpoint
+     * @param pathValues values of the path placeholders in path order
+     * @return ResponseParser with typed entity
      */
-    public RequestSpecification spec() {
-        return given().spec(requestSpecification);
+    protected ResponseParser<T> send(RequestTemplate template, Object... pathValues) {
+        return recorded(template, null, pathValues);
     }
 
     /**
-     * Sends a GET request to the specified path and returns a typed response parser.
-     * @param path request endpoint path
+     * Sends a request with a body from a prebuilt template.
+     * The body is a model serialized to JSON, pre-serialized JSON bytes that skip object mapping,
+     * or an InputStream read while it is sent with chunked transfer encoding and closed once sent.
+     * @param template request template of the endpoint
+     * @param body request body, or null to send the request without one
+     * @param pathValues values of the path placeholders in path order
      * @return ResponseParser with typed entity
      */
-    protected ResponseParser<T> get(String path) {
-        Response response = spec().when().get(path).then().extract().response();
-        return ResponseParser.of(response, entityClass);
+    protected ResponseParser<T> sendWithBody(RequestTemplate template, Object body, Object... pathValues) {
+        return recorded(template, body, pathValues);
     }
 
     /**
-     * Sends a GET request with a single path parameter.
-     * @param path request endpoint path
-     * @param paramName name of the path parameter
-     * @param paramValue value of the path parameter
-     * @return ResponseParser with typed entity
+     * Sends one request per id from a single-placeholder template, keeping at most {@code parallelism} in flight.
+     * Each call runs on its own virtual thread; duplicate ids are requested once.
+     * @param template request template with one path placeholder
+     * @param ids ids to request
+     * @param parallelism maximum number of concurrent requests
+     * @param <K> id type
+     * @return detached responses keyed by id in the order of {@code ids}
+     * @throws IllegalArgumentException if {@code parallelism} is below 1
      */
-    protected ResponseParser<T> get(String path, String paramName, Object paramValue) {
-        Response response = spec().pathParam(paramName, paramValue)
-                .when().get(path)
-                .then().extract().response();
-        return ResponseParser.of(response, entityClass);
+    protected <K> BatchResult<K, T> sendAll(RequestTemplate template, Collection<K> ids, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Batch parallelism must be at least 1 but was " + parallelism);
+        }
+        long start = System.nanoTime();
+        Semaphore permits = new Semaphore(parallelism);
+        Map<K, Future<DetachedResponse<T>>> calls = new LinkedHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (K id : ids) {
+                if (calls.containsKey(id)) continue;
+                calls.put(id, executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return detach(send(template, id));
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+
+        Map<K, BatchResult.Outcome<T>> outcomes = new LinkedHashMap<>();
+        calls.forEach((id, call) -> outcomes.put(id, call.state() == Future.State.SUCCESS
+                ? BatchResult.Outcome.of(call.resultNow())
+                : BatchResult.Outcome.failed(call.exceptionNow())));
+        return new BatchResult<>(outcomes, Duration.ofNanos(System.nanoTime() - start));
     }
 
     /**
-     * Sends a POST request with a request body.
-     * @param path request endpoint path
-     * @param body request body object
-     * @return ResponseParser with typed entity
+     * Sends one request per id with the configured batch parallelism.
+     * @param template request template with one path placeholder
+     * @param ids ids to request
+     * @param <K> id type
+     * @return detached responses keyed by id in the order of {@code ids}
      */
-    protected ResponseParser<T> post(String path, Object body) {
-        Response response = spec().body(body)
-                .when().post(path)
-                .then().extract().response();
-        return ResponseParser.of(response, entityClass);
+    protected <K> BatchResult<K, T> sendAll(RequestTemplate template, Collection<K> ids) {
+        return sendAll(template, ids, ConfigHandler.getBatchParallelism());
     }
 
     /**
-     * Sends a PUT request with a path parameter and request body.
-     * @param path request endpoint path
-     * @param paramName name of the path parameter
-     * @param paramValue value of the path parameter
-     * @param body request body object
-     * @return ResponseParser with typed entity
+     * Sends a request through the transport inside a Flight Recorder {@link HttpRequestEvent}.
      */
-    protected ResponseParser<T> put(String path, String paramName, Object paramValue, Object body) {
-        Response response = spec().pathParam(paramName, paramValue)
-                .body(body)
-                .when().put(path)
-                .then().extract().response();
-        return ResponseParser.of(response, entityClass);
+    private ResponseParser<T> recorded(RequestTemplate template, Object body, Object... pathValues) {
+        HttpRequestEvent event = new HttpRequestEvent();
+        event.begin();
+        ResponseParser<T> response = null;
+        try {
+            response = transport.send(template, body, entityClass, pathValues);
+            return response;
+        } finally {
+            if (response == null) {
+                event.commit(template, 0, null);
+            } else {
+                event.commit(template, response.statusCode(), response.timings());
+            }
+        }
     }
 
     /**
-     * Sends a DELETE request with a single path parameter.
-     * @param path request endpoint path
-     * @param paramName name of the path parameter
-     * @param paramValue value of the path parameter
-     * @return ResponseParser with typed entity
+     * Parses successful responses; other responses keep only their status and timings.
      */
-    protected ResponseParser<T> delete(String path, String paramName, Object paramValue) {
-        Response response = spec().pathParam(paramName, paramValue)
-                .when().delete(path)
-                .then().extract().response();
-        return ResponseParser.of(response, entityClass);
+    private DetachedResponse<T> detach(ResponseParser<T> response) {
+        if (response.statusCode() / 100 == 2) return response.detach();
+        return new DetachedResponse<>(response.statusCode(), Map.of(), null, response.timings());
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,13 @@
 package com.fakeRestApi.apiClient;
 
 import com.fakeRestApi.models.Book;
+import com.fakeRestApi.utils.BatchResult;
 import com.fakeRestApi.utils.ResponseParser;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.InputStream;
+import java.util.Collection;
+
 /**
  * API client for /Books endpoints.
  */
@@ -12,6 +16,13 @@ public class BooksApi extends BaseApi<Book> {
 
     public static final String BOOKS_PATH = "/Books";
 
+    private static final RequestTemplate GET_BOOKS = RequestTemplate.get(BOOKS_PATH);
+    private static final RequestTemplate GET_BOOK = RequestTemplate.get(BOOKS_PATH + "/{id}");
+    private static final RequestTemplate CREATE_BOOK = RequestTemplate.post(BOOKS_PATH);
+    private static final RequestTemplate UPDATE_BOOK = RequestTemplate.put(BOOKS_PATH + "/{id}");
+    private static final RequestTemplate DELETE_BOOK = RequestTemplate.delete(BOOKS_PATH + "/{id}");
+    private static final RequestTemplate DELETE_BOOKS = RequestTemplate.delete(BOOKS_PATH);
+
     public BooksApi() {
         super(Book.class);
     }
@@ -22,9 +33,9 @@ public class BooksApi extends BaseApi<Book> {
     public ResponseParser<Book> getBooks() {
         log.info("Fetching all books...");
 
-        var responseParser = get(BOOKS_PATH);
+        var responseParser = send(GET_BOOKS);
 
-        log.info("Received {} books.", responseParser.getJsonPath().getList("$").size());
+        log.info("Received {} books.", responseParser.size());
         return responseParser;
     }
 
@@ -33,17 +44,27 @@ public class BooksApi extends BaseApi<Book> {
      */
     public ResponseParser<Book> getBookById(Object id) {
         log.info("Fetching book by ID {}...", id);
-        ResponseParser<Book> response = get(BOOKS_PATH + "/{id}", "id", id);
+        ResponseParser<Book> response = send(GET_BOOK, id);
         log.info("Book fetched: {}", response.asPojo());
         return response;
     }
 
+    /**
+     * GET /Books/{id} for many IDs — Retrieve books in parallel with bounded concurrency, keyed by ID
+     */
+    public <K> BatchResult<K, Book> getBooksByIds(Collection<K> ids) {
+        log.info("Fetching {} books by ID...", ids.size());
+        BatchResult<K, Book> result = sendAll(GET_BOOK, ids);
+        log.info("Fetched {} books in {} ms, {} failed.", result.size(), result.elapsed().toMillis(), result.failures().size());
+        return result;
+    }
+
     /**
      * POST /Books — Create a new book
      */
     public ResponseParser<Book> createBook(Book book) {
         log.info("Creating new book: {}", book);
-        ResponseParser<Book> response = post(BOOKS_PATH, book);
+        ResponseParser<Book> response = sendWithBody(CREATE_BOOK, book);
         log.info("Created book: {}", response.asPojo());
         return response;
     }
@@ -53,18 +74,66 @@ public class BooksApi extends BaseApi<Book> {
      */
     public ResponseParser<Book> updateBook(Object id, Book updatedBook) {
         log.info("Updating book ID {}: {}", id, updatedBook);
-        ResponseParser<Book> response = put(BOOKS_PATH + "/{id}", "id", id, updatedBook);
+        ResponseParser<Book> response = sendWithBody(UPDATE_BOOK, updatedBook, id);
         log.info("Updated book ID {} successfully.", id);
         return response;
     }
 
+    /**
+     * POST /Books — Create a new book from a pre-serialized JSON body
+     */
+    public ResponseParser<Book> createBookRaw(byte[] body) {
+        log.info("Creating new book from {} byte body.", body.length);
+        return sendWithBody(CREATE_BOOK, body);
+    }
+
+    /**
+     * POST /Books — Send a create request without a body
+     */
+    public ResponseParser<Book> createBookWithoutBody() {
+        log.info("Creating book without a request body.");
+        return sendWithBody(CREATE_BOOK, null);
+    }
+
+    /**
+     * PUT /Books/{id} — Update existing book from a pre-serialized JSON body
+     */
+    public ResponseParser<Book> updateBookRaw(Object id, byte[] body) {
+        log.info("Updating book ID {} from {} byte body.", id, body.length);
+        return sendWithBody(UPDATE_BOOK, body, id);
+    }
+
+    /**
+     * POST /Books — Create a new book from a streamed JSON body, sent with chunked transfer encoding
+     */
+    public ResponseParser<Book> createBookRaw(InputStream body) {
+        log.info("Creating new book from streamed body.");
+        return sendWithBody(CREATE_BOOK, body);
+    }
+
+    /**
+     * PUT /Books/{id} — Update existing book from a streamed JSON body, sent with chunked transfer encoding
+     */
+    public ResponseParser<Book> updateBookRaw(Object id, InputStream body) {
+        log.info("Updating book ID {} from streamed body.", id);
+        return sendWithBody(UPDATE_BOOK, body, id);
+    }
+
     /**
      * DELETE /Books/{id} — Remove a book
      */
     public ResponseParser<Book> deleteBook(Object id) {
         log.info("Deleting book ID {}.", id);
-        ResponseParser<Book> response = delete(BOOKS_PATH + "/{id}", "id", id);
+        ResponseParser<Book> response = send(DELETE_BOOK, id);
         log.info("Deleted book ID {}.", id);
         return response;
     }
-}
\ No newline at end of file
+
+    /**
+     * DELETE /Books — Send a delete request without a book ID
+     */
+    public ResponseParser<Book> deleteBooks() {
+        log.info("Deleting books without an ID.");
+        return send(DELETE_BOOKS);
+    }
+}
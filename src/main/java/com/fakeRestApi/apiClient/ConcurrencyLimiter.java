@@ -0,0 +1,221 @@
+package com.fakeRestApi.apiClient;
+
+import com.fakeRestApi.config.ConfigHandler;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adaptive limit on the number of calls in flight to one target, found from observed latency and errors.
+ * The baseline is the lowest latency seen over the last one to two windows. While calls stay within
+ * {@code tolerance} times the baseline, the limit grows by one per limit's worth of completed calls (additive increase).
+ * A slower call shrinks it by the latency gradient {@code tolerance * baseline / latency}, between 0.5 and 0.9,
+ * and an overload response (429 or 5xx) or a call that failed on I/O by 0.9 (multiplicative decrease).
+ * Cancelled and interrupted calls free their permit without any feedback.
+ * Only calls sent after the last decrease can shrink the limit again, so one burst of slow calls backs off once.
+ * Limiters are shared per target so all clients of one API stay under the same limit.
+ */
+public final class ConcurrencyLimiter {
+
+    private static final Map<String, ConcurrencyLimiter> TARGETS = new ConcurrentHashMap<>();
+    /** Decrease applied to overload responses and failed calls, and the smallest decrease for slow calls */
+    private static final double BACKOFF = 0.9;
+    /** Largest decrease for slow calls */
+    private static final double MAX_BACKOFF = 0.5;
+    /** How long a window of the baseline latency lasts, so the baseline can rise when the target gets slower */
+    private static final long BASELINE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final String target;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private int maxInFlight;
+    private long calls;
+    private long backoffs;
+    private long windowStart = System.nanoTime();
+    private long lastBackoffAt = windowStart;
+    private long windowMin = Long.MAX_VALUE;
+    private long previousWindowMin = Long.MAX_VALUE;
+
+    /**
+     * Current state of a limiter.
+     * @param target target the limiter guards
+     * @param limit current concurrency limit
+     * @param inFlight calls currently in flight
+     * @param maxInFlight highest number of calls that were in flight at once
+     * @param calls completed calls
+     * @param backoffs number of times the limit was decreased
+     * @param baselineMs baseline latency in milliseconds, 0 before the first successful call
+     */
+    public record Snapshot(String target, int limit, int inFlight, int maxInFlight, long calls, long backoffs, double baselineMs) {}
+
+    /**
+     * @param target target the limiter guards, used in reports
+     * @param initialLimit limit to start from
+     * @param minLimit lowest limit to back off to
+     * @param maxLimit highest limit to grow to
+     * @param tolerance how many times the baseline latency a call may take before the limit is decreased
+     */
+    public ConcurrencyLimiter(String target, int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid concurrency limit range [" + minLimit + ", " + maxLimit + "]");
+        }
+        if (tolerance <= 1) throw new IllegalArgumentException("Concurrency limit tolerance must exceed 1: " + tolerance);
+        this.target = target;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * Returns the limiter shared by all calls to a target, created with the settings of {@link ConfigHandler}.
+     * @param target target base URL
+     * @return shared limiter
+     */
+    public static ConcurrencyLimiter forTarget(String target) {
+        return TARGETS.computeIfAbsent(target, t -> new ConcurrencyLimiter(t, ConfigHandler.getConcurrencyLimitInitial(),
+                ConfigHandler.getConcurrencyLimitMin(), ConfigHandler.getConcurrencyLimitMax(),
+                ConfigHandler.getConcurrencyLimitTolerance()));
+    }
+
+    /**
+     * Returns the state of all shared limiters, sorted by target.
+     * @return list of limiter snapshots
+     */
+    public static List<Snapshot> snapshotAll() {
+        return TARGETS.values().stream()
+                .map(ConcurrencyLimiter::snapshot)
+                .sorted(Comparator.comparing(Snapshot::target))
+                .toList();
+    }
+
+    /**
+     * Renders the state of all shared limiters as a plain-text table.
+     * @return formatted report, empty if no limiter was used
+     */
+    public static String report() {
+        List<Snapshot> snapshots = snapshotAll();
+        if (snapshots.isEmpty()) return "";
+        StringBuilder report = new StringBuilder(String.format("%-48s %6s %9s %13s %8s %8s %11s%n",
+                "target", "limit", "in flight", "max in flight", "calls", "backoffs", "baseline ms"));
+        for (Snapshot s : snapshots) {
+            report.append(String.format("%-48s %6d %9d %13d %8d %8d %11.1f%n",
+                    s.target(), s.limit(), s.inFlight(), s.maxInFlight(), s.calls(), s.backoffs(), s.baselineMs()));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Waits until a call fits under the current limit and counts it as in flight.
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= (int) limit) {
+                permitReleased.await();
+            }
+            inFlight++;
+            maxInFlight = Math.max(maxInFlight, inFlight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Completes a call acquired with {@link #acquire()} and adapts the limit to its outcome.
+     * @param latencyNanos time the call took
+     * @param overloaded true if the call failed on I/O or the target answered with an overload status
+     */
+    public void release(long latencyNanos, boolean overloaded) {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            int inFlightBefore = inFlight--;
+            calls++;
+            if (!overloaded) updateBaseline(latencyNanos, now);
+            long baseline = baselineNanos();
+            boolean slow = !overloaded && baseline > 0 && latencyNanos > tolerance * baseline;
+
+            if (overloaded || slow) {
+                if (now - latencyNanos - lastBackoffAt >= 0) {
+                    double factor = overloaded ? BACKOFF
+                            : Math.clamp(tolerance * baseline / latencyNanos, MAX_BACKOFF, BACKOFF);
+                    limit = Math.max(minLimit, limit * factor);
+                    lastBackoffAt = now;
+                    backoffs++;
+                }
+            } else if (inFlightBefore * 2 >= (int) limit) {
+                // Only grow while the limit is actually being used
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Completes a call acquired with {@link #acquire()} without adapting the limit, baseline or call count.
+     * Used for calls that say nothing about the target, such as cancelled or interrupted ones.
+     */
+    public void cancel() {
+        lock.lock();
+        try {
+            inFlight--;
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current concurrency limit.
+     * @return limit
+     */
+    public int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current state of this limiter.
+     * @return snapshot
+     */
+    public Snapshot snapshot() {
+        lock.lock();
+        try {
+            return new Snapshot(target, (int) limit, inFlight, maxInFlight, calls, backoffs, baselineNanos() / 1_000_000.0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void updateBaseline(long latencyNanos, long now) {
+        if (now - windowStart >= BASELINE_WINDOW_NANOS) {
+            previousWindowMin = windowMin;
+            windowMin = Long.MAX_VALUE;
+            windowStart = now;
+        }
+        windowMin = Math.min(windowMin, latencyNanos);
+    }
+
+    private long baselineNanos() {
+        long baseline = Math.min(windowMin, previousWindowMin);
+        return baseline == Long.MAX_VALUE ? 0 : baseline;
+    }
+}
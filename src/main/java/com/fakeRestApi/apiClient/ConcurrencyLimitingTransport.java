@@ -0,0 +1,91 @@
+package com.fakeRestApi.apiClient;
+
+import com.fakeRestApi.config.ConfigHandler;
+import com.fakeRestApi.utils.ResponseParser;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Transport decorator that keeps the calls in flight under the adaptive limit of a {@link ConcurrencyLimiter}.
+ * Calls over the limit wait for a permit; every completed call feeds its latency and outcome back to the limiter.
+ * Responses with status 429 or 5xx and calls that fail on I/O count as overload. Calls that are cancelled or
+ * interrupted, such as the losing request of a hedged call, and other client-side failures only free their permit.
+ */
+public class ConcurrencyLimitingTransport implements HttpTransport {
+
+    private final HttpTransport delegate;
+    private final ConcurrencyLimiter limiter;
+
+    /**
+     * @param delegate transport sending the requests
+     * @param limiter limiter of the target
+     */
+    public ConcurrencyLimitingTransport(HttpTransport delegate, ConcurrencyLimiter limiter) {
+        this.delegate = delegate;
+        this.limiter = limiter;
+    }
+
+    /**
+     * Wraps a transport with the shared limiter of the configured base URL.
+     * @param delegate transport sending the requests
+     * @return limiting transport
+     */
+    public static ConcurrencyLimitingTransport fromConfig(HttpTransport delegate) {
+        return new ConcurrencyLimitingTransport(delegate, ConcurrencyLimiter.forTarget(ConfigHandler.getBaseUrl()));
+    }
+
+    @Override
+    public <T> ResponseParser<T> send(RequestTemplate template, Object body, Class<T> type, Object... pathValues) {
+        try {
+            limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a concurrency permit for " + template, e);
+        }
+        long start = System.nanoTime();
+        ResponseParser<T> response;
+        try {
+            response = delegate.send(template, body, type, pathValues);
+        } catch (Throwable failure) {
+            if (isTargetFailure(failure)) {
+                limiter.release(System.nanoTime() - start, true);
+            } else {
+                limiter.cancel();
+            }
+            throw failure;
+        }
+        int status = response.statusCode();
+        limiter.release(System.nanoTime() - start, status == 429 || status >= 500);
+        return response;
+    }
+
+    /**
+     * Returns whether a failed call says something about the target: I/O failures do, unless they were caused by
+     * interrupting or cancelling the call. Interrupts show up as a set interrupt flag or somewhere in the cause chain.
+     */
+    private static boolean isTargetFailure(Throwable failure) {
+        if (Thread.currentThread().isInterrupted()) return false;
+        boolean io = false;
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            boolean interrupted = cause instanceof InterruptedIOException && !(cause instanceof SocketTimeoutException);
+            if (interrupted || cause instanceof InterruptedException || cause instanceof ClosedByInterruptException
+                    || cause instanceof CancellationException) {
+                return false;
+            }
+            io |= cause instanceof IOException;
+        }
+        return io;
+    }
+
+    /**
+     * Returns the limiter this transport goes through.
+     * @return concurrency limiter
+     */
+    public ConcurrencyLimiter limiter() {
+        return limiter;
+    }
+}
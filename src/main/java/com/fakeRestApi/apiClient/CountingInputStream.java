@@ -0,0 +1,77 @@
+package com.fakeRestApi.apiClient;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Stream that counts the bytes read through it and optionally reports when it is exhausted or closed.
+ */
+final class CountingInputStream extends FilterInputStream {
+
+    private final Runnable onEnd;
+    private long count;
+    private boolean ended;
+
+    CountingInputStream(InputStream in) {
+        this(in, null);
+    }
+
+    /**
+     * @param in stream to count
+     * @param onEnd run once, on the reading thread, when the stream reports its end or is closed; may be null
+     */
+    CountingInputStream(InputStream in, Runnable onEnd) {
+        super(in);
+        this.onEnd = onEnd;
+    }
+
+    /**
+     * Returns the number of bytes read or skipped so far.
+     * @return byte count
+     */
+    long count() {
+        return count;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            count++;
+        } else {
+            end();
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int length) throws IOException {
+        int n = super.read(target, offset, length);
+        if (n > 0) {
+            count += n;
+        } else if (n == -1) {
+            end();
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count += skipped;
+        return skipped;
+    }
+
+    @Override
+    public void close() throws IOException {
+        end();
+        super.close();
+    }
+
+    private void end() {
+        if (ended) return;
+        ended = true;
+        if (onEnd != null) onEnd.run();
+    }
+}
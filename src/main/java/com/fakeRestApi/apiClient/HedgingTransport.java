@@ -0,0 +1,162 @@
+package com.fakeRestApi.apiClient;
+
+import com.fakeRestApi.config.ConfigHandler;
+import com.fakeRestApi.metrics.EndpointMetrics;
+import com.fakeRestApi.metrics.LatencyHistogram;
+import com.fakeRestApi.utils.ResponseParser;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Transport decorator that hedges GET calls: when the first request has not answered within the observed
+ * latency percentile of its endpoint on the target, a duplicate is sent, the first response wins and the loser is
+ * cancelled. Endpoints are hedged only once enough calls to the target were recorded in {@link EndpointMetrics};
+ * the extra load is capped by a budget that starts empty and earns a fraction of a hedge per eligible call.
+ * Other methods are passed through unchanged.
+ * Both requests run on virtual threads, so cancelling the loser interrupts its blocking socket read.
+ */
+@Slf4j
+public class HedgingTransport implements HttpTransport {
+
+    /** How long a computed delay is reused before the percentile is read again */
+    private static final long DELAY_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+    /** Hedges that can be saved up and spent in a burst */
+    private static final double MAX_BUDGET = 10;
+
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final HttpTransport delegate;
+    private final String target;
+    private final double percentile;
+    private final Duration minDelay;
+    private final long minSamples;
+    private final double maxRatio;
+    private final Map<String, CachedDelay> delays = new ConcurrentHashMap<>();
+    private final AtomicLong hedged = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+    private double budget;
+
+    private record CachedDelay(Duration delay, long computedAt) {}
+
+    /**
+     * @param delegate transport sending the requests
+     * @param target base URL the delegate sends to, whose endpoint latencies set the delay
+     * @param percentile endpoint latency percentile after which a hedge is sent
+     * @param minDelay lower bound of the hedging delay
+     * @param minSamples recorded calls an endpoint needs before it is hedged
+     * @param maxRatio maximum number of hedges per eligible call
+     */
+    public HedgingTransport(HttpTransport delegate, String target, double percentile, Duration minDelay,
+                            long minSamples, double maxRatio) {
+        this.delegate = delegate;
+        this.target = target;
+        this.percentile = percentile;
+        this.minDelay = minDelay;
+        this.minSamples = minSamples;
+        this.maxRatio = maxRatio;
+    }
+
+    /**
+     * Wraps a transport with the base URL and hedging settings of {@link ConfigHandler}.
+     * @param delegate transport sending the requests
+     * @return hedging transport
+     */
+    public static HedgingTransport fromConfig(HttpTransport delegate) {
+        return new HedgingTransport(delegate, ConfigHandler.getBaseUrl(), ConfigHandler.getHedgingPercentile(),
+                Duration.ofMillis(ConfigHandler.getHedgingMinDelayMillis()),
+                ConfigHandler.getHedgingMinSamples(), ConfigHandler.getHedgingMaxRatio());
+    }
+
+    @Override
+    public <T> ResponseParser<T> send(RequestTemplate template, Object body, Class<T> type, Object... pathValues) {
+        Duration delay = template.method().equals("GET") ? delay(template.endpoint()) : null;
+        if (delay == null) return delegate.send(template, body, type, pathValues);
+        earnBudget();
+
+        Callable<ResponseParser<T>> call = () -> delegate.send(template, body, type, pathValues);
+        CompletionService<ResponseParser<T>> calls = new ExecutorCompletionService<>(EXECUTOR);
+        Future<ResponseParser<T>> primary = calls.submit(call);
+        Future<ResponseParser<T>> hedge = null;
+        try {
+            Future<ResponseParser<T>> first = calls.poll(delay.toNanos(), TimeUnit.NANOSECONDS);
+            if (first == null && trySpendBudget()) {
+                hedged.incrementAndGet();
+                log.debug("{} slower than {} ms, sending hedged request", template, delay.toMillis());
+                hedge = calls.submit(call);
+            }
+            if (first == null) first = calls.take();
+            if (first.state() != Future.State.SUCCESS && hedge != null) {
+                // The first one to finish failed; the other may still succeed
+                first = calls.take();
+            }
+            if (first == hedge) hedgeWins.incrementAndGet();
+            return first.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + template, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException("Request " + template + " failed", e.getCause());
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) hedge.cancel(true);
+        }
+    }
+
+    /**
+     * Returns the number of hedged requests sent so far.
+     * @return hedge count
+     */
+    public long hedgedCount() {
+        return hedged.get();
+    }
+
+    /**
+     * Returns the number of hedged requests that answered before the original one.
+     * @return hedge win count
+     */
+    public long hedgeWinCount() {
+        return hedgeWins.get();
+    }
+
+    /**
+     * Returns the hedging delay of an endpoint, recomputed from its histogram on the target at most once per second.
+     * @return delay, or null while the endpoint has too few recorded calls
+     */
+    private Duration delay(String endpoint) {
+        long now = System.nanoTime();
+        CachedDelay cached = delays.get(endpoint);
+        if (cached != null && now - cached.computedAt() < DELAY_REFRESH_NANOS) return cached.delay();
+
+        LatencyHistogram histogram = EndpointMetrics.histogram(target, endpoint);
+        Duration delay = null;
+        if (histogram.count() >= minSamples) {
+            Duration observed = histogram.percentile(percentile);
+            delay = observed.compareTo(minDelay) < 0 ? minDelay : observed;
+        }
+        delays.put(endpoint, new CachedDelay(delay, now));
+        return delay;
+    }
+
+    private synchronized void earnBudget() {
+        budget = Math.min(MAX_BUDGET, budget + maxRatio);
+    }
+
+    private synchronized boolean trySpendBudget() {
+        if (budget < 1) return false;
+        budget -= 1;
+        return true;
+    }
+}
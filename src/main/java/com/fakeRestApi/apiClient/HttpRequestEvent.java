@@ -0,0 +1,58 @@
+package com.fakeRestApi.apiClient;
+
+import com.fakeRestApi.metrics.RequestTimings;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning one API client call, from handing it to the transport to getting the parsed response.
+ * Retries, hedges and waits for a concurrency permit are inside the span; its stack trace names the calling test.
+ */
+@Name("com.fakeRestApi.HttpRequest")
+@Label("HTTP Request")
+@Category({"Fake REST API", "HTTP"})
+@Description("API client call sent through the configured transport")
+final class HttpRequestEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Endpoint")
+    @Description("Path template with unresolved parameters")
+    String endpoint;
+
+    @Label("Status")
+    @Description("HTTP status code, 0 if the call failed without a response")
+    int status;
+
+    @Label("Bytes Sent")
+    @DataAmount
+    long bytesSent;
+
+    @Label("Bytes Received")
+    @DataAmount
+    long bytesReceived;
+
+    /**
+     * Ends the event and commits it if it is enabled and above its threshold.
+     * @param template template of the call
+     * @param status response status, 0 without a response
+     * @param timings timings of the response, null without a response
+     */
+    void commit(RequestTemplate template, int status, RequestTimings timings) {
+        end();
+        if (!shouldCommit()) return;
+        method = template.method();
+        endpoint = template.pathTemplate();
+        this.status = status;
+        if (timings != null) {
+            bytesSent = timings.requestBytes();
+            bytesReceived = timings.responseBytes();
+        }
+        commit();
+    }
+}
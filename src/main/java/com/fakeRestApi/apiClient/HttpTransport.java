@@ -0,0 +1,48 @@
+package com.fakeRestApi.apiClient;
+
+import com.fakeRestApi.config.ConfigHandler;
+import com.fakeRestApi.utils.ResponseParser;
+
+import java.net.http.HttpClient;
+
+/**
+ * Sends the HTTP calls of the API clients and returns their responses as {@link ResponseParser}.
+ * Implementations record phase timings and per-endpoint metrics for every call.
+ */
+public interface HttpTransport {
+
+    /**
+     * Sends a request and reads the whole response body before returning.
+     * @param template prebuilt request template
+     * @param body request body: a model serialized to JSON, pre-serialized bytes, a stream sent as it is read,
+     *             or null; ignored for templates without a body
+     * @param type class type for deserialization
+     * @param pathValues values of the path placeholders in path order
+     * @param <T> generic type of the POJO
+     * @return ResponseParser with typed entity
+     */
+    <T> ResponseParser<T> send(RequestTemplate template, Object body, Class<T> type, Object... pathValues);
+
+    /**
+     * Creates the transport selected by {@link ConfigHandler#getHttpTransport()}, with the adaptive concurrency limit
+     * and hedging of GET calls if enabled. Hedged requests go through the limiter like any other request.
+     * @param restAssured RestAssured transport to use when it is selected
+     * @return configured transport
+     */
+    static HttpTransport configured(RestAssuredTransport restAssured) {
+        HttpTransport transport = selected(restAssured);
+        if (ConfigHandler.isConcurrencyLimitEnabled()) transport = ConcurrencyLimitingTransport.fromConfig(transport);
+        return ConfigHandler.isHedgingEnabled() ? HedgingTransport.fromConfig(transport) : transport;
+    }
+
+    private static HttpTransport selected(RestAssuredTransport restAssured) {
+        String transport = ConfigHandler.getHttpTransport();
+        return switch (transport) {
+            case "restassured" -> restAssured;
+            case "jdk" -> JdkHttpTransport.fromConfig(HttpClient.Version.HTTP_1_1);
+            case "http2" -> JdkHttpTransport.fromConfig(HttpClient.Version.HTTP_2);
+            default -> throw new IllegalArgumentException("Unknown http.transport '" + transport
+                    + "'; expected restassured, jdk or http2");
+        };
+    }
+}
@@ -0,0 +1,174 @@
+package com.fakeRestApi.apiClient;
+
+import com.fakeRestApi.config.ConfigHandler;
+import com.fakeRestApi.metrics.EndpointMetrics;
+import com.fakeRestApi.metrics.RequestTimingRecorder;
+import com.fakeRestApi.metrics.RequestTimings;
+import com.fakeRestApi.serialization.JsonCodec;
+import com.fakeRestApi.serialization.JsonCodecs;
+import com.fakeRestApi.serialization.JsonMappers;
+import com.fakeRestApi.utils.ResponseBody;
+import com.fakeRestApi.utils.ResponseParser;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lean transport on the JDK HTTP client: one request object per call, no filter chain and no specification merging.
+ * With HTTP/2 it negotiates through ALPN over TLS and through the h2c upgrade over cleartext, falling back
+ * to HTTP/1.1 for servers without HTTP/2 support, and multiplexes concurrent calls as streams over a few connections.
+ * Transports share one client per protocol version and trust setting.
+ * Bodies are decoded, measured and spilled like on the RestAssured transport and recorded in {@link EndpointMetrics};
+ * no Allure attachments or request/response logging are produced.
+ */
+@Slf4j
+public class JdkHttpTransport implements HttpTransport {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Map<ClientKey, HttpClient> CLIENTS = new ConcurrentHashMap<>();
+
+    private record ClientKey(HttpClient.Version version, boolean trustAllCertificates) {}
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final long spillThreshold;
+    private final String[] headers;
+    private final String[] bodyHeaders;
+
+    /**
+     * @param version preferred HTTP version
+     * @param baseUrl base URL the request paths are appended to
+     * @param trustAllCertificates accept any server certificate and host name (self-signed local stand-ins only)
+     * @param spillThreshold body size in bytes above which response bodies are spilled to disk; 0 disables spilling
+     * @param acceptEncoding comma-separated content codings to request; unsupported ones are dropped, empty disables
+     */
+    public JdkHttpTransport(HttpClient.Version version, String baseUrl, boolean trustAllCertificates,
+                            long spillThreshold, String acceptEncoding) {
+        this.client = CLIENTS.computeIfAbsent(new ClientKey(version, trustAllCertificates), JdkHttpTransport::newClient);
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.spillThreshold = spillThreshold;
+        this.headers = requestHeaders(ResponseBodies.acceptEncoding(acceptEncoding), false);
+        this.bodyHeaders = requestHeaders(ResponseBodies.acceptEncoding(acceptEncoding), true);
+    }
+
+    private static String[] requestHeaders(String acceptEncoding, boolean withBody) {
+        List<String> headers = new ArrayList<>(List.of("Accept", "application/json"));
+        if (withBody) headers.addAll(List.of("Content-Type", "application/json; charset=UTF-8"));
+        if (!acceptEncoding.isEmpty()) headers.addAll(List.of("Accept-Encoding", acceptEncoding));
+        return headers.toArray(String[]::new);
+    }
+
+    /**
+     * Creates a transport for the base URL, trust, spill and compression settings of {@link ConfigHandler}.
+     * @param version preferred HTTP version
+     * @return configured transport
+     */
+    public static JdkHttpTransport fromConfig(HttpClient.Version version) {
+        return new JdkHttpTransport(version, ConfigHandler.getBaseUrl(), ConfigHandler.isTrustAllCertificates(),
+                ConfigHandler.getResponseSpillThreshold(), ConfigHandler.getAcceptEncoding());
+    }
+
+    private static HttpClient newClient(ClientKey key) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(key.version())
+                .connectTimeout(CONNECT_TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        if (key.trustAllCertificates()) builder.sslContext(TimingHttpClientFactory.trustAllSslContext());
+        return builder.build();
+    }
+
+    /**
+     * Builds the request from the template parts and the precomputed header list; only the URI and body vary per call.
+     */
+    @Override
+    public <T> ResponseParser<T> send(RequestTemplate template, Object body, Class<T> type, Object... pathValues) {
+        boolean withBody = template.hasBody() && body != null;
+        HttpRequest.BodyPublisher publisher = withBody ? publisher(body) : HttpRequest.BodyPublishers.noBody();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + template.expand(pathValues)))
+                .method(template.method(), publisher)
+                .headers(withBody ? bodyHeaders : headers)
+                .build();
+
+        String endpoint = template.endpoint();
+        RequestTimingRecorder.begin();
+        HttpResponse<InputStream> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            RequestTimingRecorder.end(0, 0);
+            throw new UncheckedIOException("Failed to send " + endpoint, e);
+        } catch (InterruptedException e) {
+            RequestTimingRecorder.end(0, 0);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending " + endpoint, e);
+        }
+        RequestTimingRecorder.markFirstByte();
+
+        String encoding = response.headers().firstValue("Content-Encoding")
+                .map(value -> value.trim().toLowerCase(Locale.ROOT))
+                .orElse(RequestTimings.IDENTITY);
+        boolean decode = ResponseBodies.isSupported(encoding);
+        ResponseBody responseBody;
+        long wireBytes;
+        try (CountingInputStream wire = new CountingInputStream(response.body())) {
+            if (decode) {
+                CountingInputStream decoded = new CountingInputStream(ResponseBodies.decode(wire, encoding));
+                RequestTimingRecorder.markResponseBody(encoding, wire::count, decoded::count);
+                responseBody = ResponseBodies.read(decoded, spillThreshold);
+            } else {
+                // Kept as received, like on the RestAssured transport
+                RequestTimingRecorder.markResponseBody(encoding, wire::count, () -> 0);
+                responseBody = ResponseBodies.read(wire, spillThreshold);
+            }
+            wireBytes = wire.count();
+        } catch (IOException e) {
+            RequestTimingRecorder.end(0, 0);
+            throw new UncheckedIOException("Failed to read response of " + endpoint, e);
+        }
+        RequestTimings timings = RequestTimingRecorder.end(Math.max(publisher.contentLength(), 0), wireBytes);
+
+        EndpointMetrics.record(baseUrl, endpoint, timings);
+        log.debug("{} -> {} over {} [{}]", endpoint, response.statusCode(), response.version(), timings);
+        return ResponseParser.of(response.statusCode(), headers(response, decode), responseBody, type, timings);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpRequest.BodyPublisher publisher(Object body) {
+        if (body instanceof byte[] bytes) return HttpRequest.BodyPublishers.ofByteArray(bytes);
+        // Unknown length: sent chunked over HTTP/1.1 and as a sequence of DATA frames over HTTP/2
+        if (body instanceof InputStream stream) return HttpRequest.BodyPublishers.ofInputStream(() -> stream);
+        JsonCodec<Object> codec = (JsonCodec<Object>) JsonCodecs.find(body.getClass());
+        if (codec != null) return HttpRequest.BodyPublishers.ofByteArray(JsonCodecs.writeBytes(codec, body));
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(JsonMappers.writer(body.getClass()).writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize " + body.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Converts the response headers, dropping Content-Encoding once the body has been decoded.
+     */
+    private static Headers headers(HttpResponse<?> response, boolean decoded) {
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) -> {
+            if (name.startsWith(":") || (decoded && name.equalsIgnoreCase("Content-Encoding"))) return;
+            values.forEach(value -> headers.add(new Header(name, value)));
+        });
+        return new Headers(headers);
+    }
+}
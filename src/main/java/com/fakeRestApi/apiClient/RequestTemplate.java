@@ -0,0 +1,155 @@
+package com.fakeRestApi.apiClient;
+
+import com.fakeRestApi.metrics.EndpointMetrics;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable description of one endpoint call, parsed once per API client method.
+ * Holds the HTTP method, the path template split around its {@code {name}} placeholders and the metrics endpoint key,
+ * so a call only supplies the path parameter values, in placeholder order, and the body.
+ */
+public final class RequestTemplate {
+
+    private final String method;
+    private final String pathTemplate;
+    private final String endpoint;
+    private final boolean hasBody;
+    /** Literal path parts around the placeholders; one more than there are placeholders */
+    private final String[] literals;
+    private final String[] paramNames;
+
+    private RequestTemplate(String method, String pathTemplate, boolean hasBody) {
+        this.method = method;
+        this.pathTemplate = pathTemplate;
+        this.endpoint = EndpointMetrics.key(method, pathTemplate);
+        this.hasBody = hasBody;
+
+        List<String> literals = new ArrayList<>();
+        List<String> paramNames = new ArrayList<>();
+        int pos = 0;
+        int open;
+        while ((open = pathTemplate.indexOf('{', pos)) >= 0) {
+            int close = pathTemplate.indexOf('}', open);
+            if (close < 0) throw new IllegalArgumentException("Unclosed path parameter in " + pathTemplate);
+            literals.add(pathTemplate.substring(pos, open));
+            paramNames.add(pathTemplate.substring(open + 1, close));
+            pos = close + 1;
+        }
+        literals.add(pathTemplate.substring(pos));
+        this.literals = literals.toArray(String[]::new);
+        this.paramNames = paramNames.toArray(String[]::new);
+    }
+
+    /**
+     * Creates a GET template.
+     * @param pathTemplate request path with {@code {name}} placeholders
+     * @return request template
+     */
+    public static RequestTemplate get(String pathTemplate) {
+        return new RequestTemplate("GET", pathTemplate, false);
+    }
+
+    /**
+     * Creates a POST template with a request body.
+     * @param pathTemplate request path with {@code {name}} placeholders
+     * @return request template
+     */
+    public static RequestTemplate post(String pathTemplate) {
+        return new RequestTemplate("POST", pathTemplate, true);
+    }
+
+    /**
+     * Creates a PUT template with a request body.
+     * @param pathTemplate request path with {@code {name}} placeholders
+     * @return request template
+     */
+    public static RequestTemplate put(String pathTemplate) {
+        return new RequestTemplate("PUT", pathTemplate, true);
+    }
+
+    /**
+     * Creates a DELETE template.
+     * @param pathTemplate request path with {@code {name}} placeholders
+     * @return request template
+     */
+    public static RequestTemplate delete(String pathTemplate) {
+        return new RequestTemplate("DELETE", pathTemplate, false);
+    }
+
+    /**
+     * Returns the HTTP method.
+     * @return upper-case method name
+     */
+    public String method() {
+        return method;
+    }
+
+    /**
+     * Returns the path template with its placeholders.
+     * @return path template
+     */
+    public String pathTemplate() {
+        return pathTemplate;
+    }
+
+    /**
+     * Returns the key the calls are aggregated under in {@link EndpointMetrics}.
+     * @return endpoint key
+     */
+    public String endpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Returns whether the request carries a body.
+     * @return true for POST and PUT templates
+     */
+    public boolean hasBody() {
+        return hasBody;
+    }
+
+    /**
+     * Returns the number of path placeholders.
+     * @return placeholder count
+     */
+    public int paramCount() {
+        return paramNames.length;
+    }
+
+    /**
+     * Returns the name of a path placeholder.
+     * @param index placeholder index in path order
+     * @return placeholder name
+     */
+    public String paramName(int index) {
+        return paramNames[index];
+    }
+
+    /**
+     * Builds the request path with URL-encoded parameter values.
+     * @param pathValues values of the placeholders in path order
+     * @return expanded path
+     */
+    public String expand(Object... pathValues) {
+        if (pathValues.length != paramNames.length) {
+            throw new IllegalArgumentException(endpoint + " expects " + paramNames.length
+                    + " path parameters but got " + pathValues.length);
+        }
+        if (pathValues.length == 0) return literals[0];
+        StringBuilder path = new StringBuilder(pathTemplate.length() + 16).append(literals[0]);
+        for (int i = 0; i < pathValues.length; i++) {
+            path.append(URLEncoder.encode(String.valueOf(pathValues[i]), StandardCharsets.UTF_8).replace("+", "%20"))
+                    .append(literals[i + 1]);
+        }
+        return path.toString();
+    }
+
+    @Override
+    public String toString() {
+        return endpoint;
+    }
+}
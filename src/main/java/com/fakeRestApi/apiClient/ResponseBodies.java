@@ -0,0 +1,144 @@
+package com.fakeRestApi.apiClient;
+
+import com.fakeRestApi.metrics.RequestTimings;
+import com.fakeRestApi.utils.MappedResponseBody;
+import com.fakeRestApi.utils.ResponseBody;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Response body decoding and spilling shared by the HTTP transports.
+ */
+@Slf4j
+final class ResponseBodies {
+
+    static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    /** Private constructor to prevent instantiation */
+    private ResponseBodies() {}
+
+    /**
+     * Returns whether a content coding can be decoded.
+     * @param encoding lower-case content coding
+     * @return true for identity, gzip and deflate
+     */
+    static boolean isSupported(String encoding) {
+        return encoding.equals(RequestTimings.IDENTITY) || encoding.equals("gzip") || encoding.equals("deflate");
+    }
+
+    /**
+     * Builds the Accept-Encoding value from the configured content codings, dropping the unsupported ones.
+     * @param requested comma-separated content codings; {@code none} or an empty value disables compression
+     * @return Accept-Encoding header value, empty if no compression should be requested
+     */
+    static String acceptEncoding(String requested) {
+        List<String> encodings = new ArrayList<>();
+        for (String encoding : requested.split(",")) {
+            String name = encoding.trim().toLowerCase(Locale.ROOT);
+            if (name.isEmpty() || name.equals("none") || name.equals(RequestTimings.IDENTITY)) continue;
+            if (isSupported(name)) {
+                encodings.add(name);
+            } else {
+                log.warn("Content coding '{}' is not supported by the HTTP client and will not be requested", name);
+            }
+        }
+        return String.join(", ", encodings);
+    }
+
+    /**
+     * Wraps a body stream with a decompressing stream for its content coding.
+     * @param wire body stream as received
+     * @param encoding supported lower-case content coding
+     * @return decoded stream, or the given stream for identity
+     * @throws IOException if the compressed stream header cannot be read
+     */
+    static InputStream decode(InputStream wire, String encoding) throws IOException {
+        return switch (encoding) {
+            case "gzip" -> new GZIPInputStream(wire, COPY_BUFFER_SIZE);
+            case "deflate" -> inflate(wire);
+            default -> wire;
+        };
+    }
+
+    /**
+     * Inflates a deflate body. The deflate coding is zlib-wrapped data, but some servers send raw deflate data under
+     * the same name, so the first two bytes are checked for a zlib header before choosing the inflater.
+     * @param wire body stream as received
+     * @return inflating stream that releases its inflater when closed
+     * @throws IOException if the header cannot be read
+     */
+    private static InputStream inflate(InputStream wire) throws IOException {
+        PushbackInputStream in = new PushbackInputStream(wire, 2);
+        byte[] header = in.readNBytes(2);
+        in.unread(header);
+        boolean zlib = header.length == 2
+                && (header[0] & 0x0F) == 8
+                && ((header[0] & 0xFF) << 8 | (header[1] & 0xFF)) % 31 == 0;
+        Inflater inflater = new Inflater(!zlib);
+        return new InflaterInputStream(in, inflater, COPY_BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inflater.end();
+                }
+            }
+        };
+    }
+
+    /**
+     * Reads a decoded body, keeping it on the heap up to the spill threshold
+     * and streaming it to a memory-mapped temp file beyond that.
+     * @param content decoded body stream, closed by the caller
+     * @param spillThreshold body size in bytes above which the body is spilled; 0 keeps every body on the heap
+     * @return heap or memory-mapped body
+     * @throws IOException if the body cannot be read or written to disk; the temp file is deleted then
+     */
+    static ResponseBody read(InputStream content, long spillThreshold) throws IOException {
+        if (spillThreshold <= 0) return ResponseBody.of(content.readAllBytes());
+
+        ByteArrayOutputStream head = new ByteArrayOutputStream(COPY_BUFFER_SIZE);
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        int read;
+        while (head.size() <= spillThreshold && (read = content.read(buffer)) != -1) {
+            head.write(buffer, 0, read);
+        }
+        if (head.size() <= spillThreshold) return ResponseBody.of(head.toByteArray());
+
+        Path file = Files.createTempFile("response-", ".json");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            head.writeTo(out);
+            head = null;
+            content.transferTo(out);
+        } catch (IOException | RuntimeException e) {
+            delete(file, e);
+            throw e;
+        }
+        return MappedResponseBody.map(file);
+    }
+
+    /**
+     * Deletes a partially written spill file, keeping a failed deletion as suppressed exception of the read failure.
+     */
+    private static void delete(Path file, Exception failure) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.fakeRestApi.apiClient;
+
+import com.fakeRestApi.metrics.RequestTimingRecorder;
+import com.fakeRestApi.metrics.RequestTimings;
+import com.fakeRestApi.utils.ResponseBody;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Decodes, measures and optionally spills response bodies before RestAssured reads them.
+ * <ul>
+ *   <li>gzip and deflate bodies are decompressed as a stream while they are read, and the Content-Encoding header is removed;</li>
+ *   <li>body bytes on the wire and after decoding are reported to {@link RequestTimingRecorder};</li>
+ *   <li>bodies larger than the spill threshold are streamed to a temp file and handed to the calling thread through
+ *       {@link #takeLast()} to be read memory-mapped, while RestAssured only sees an empty entity.
+ *       Bodies of unknown or compressed length are buffered up to the threshold and spilled only when they exceed it.</li>
+ * </ul>
+ */
+class ResponseBodyInterceptor implements HttpResponseInterceptor {
+
+    private static final ThreadLocal<ResponseBody> LAST = new ThreadLocal<>();
+
+    private final long spillThreshold;
+
+    /**
+     * @param spillThreshold body size in bytes above which bodies are spilled to disk; 0 disables spilling
+     */
+    ResponseBodyInterceptor(long spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
+    /**
+     * Returns and clears the body spilled by the last call on this thread.
+     * @return spilled body, or null if the last body was small enough to stay on the heap
+     */
+    static ResponseBody takeLast() {
+        ResponseBody body = LAST.get();
+        LAST.remove();
+        return body;
+    }
+
+    /** Clears any spilled body left over on this thread. */
+    static void clear() {
+        LAST.remove();
+    }
+
+    @Override
+    public void process(HttpResponse response, HttpContext context) throws IOException {
+        HttpEntity entity = response.getEntity();
+        if (entity == null) {
+            RequestTimingRecorder.markResponseReceived();
+            return;
+        }
+        Header encodingHeader = entity.getContentEncoding();
+        String encoding = encodingHeader == null
+                ? RequestTimings.IDENTITY
+                : encodingHeader.getValue().trim().toLowerCase(Locale.ROOT);
+
+        DecodedEntity decoded = new DecodedEntity(entity, encoding);
+        response.setEntity(decoded);
+        if (!ResponseBodies.isSupported(encoding)) {
+            // Passed on still encoded; wrapped only to count it and to take the connection counters once it is read
+            RequestTimingRecorder.markResponseBody(encoding, decoded.wire::count, () -> 0);
+            return;
+        }
+        RequestTimingRecorder.markResponseBody(encoding, decoded.wire::count, () -> decoded.decodedCount());
+        response.removeHeaders("Content-Encoding");
+
+        boolean knownSmall = encoding.equals(RequestTimings.IDENTITY)
+                && entity.getContentLength() >= 0 && entity.getContentLength() <= spillThreshold;
+        if (spillThreshold > 0 && !knownSmall) {
+            response.setEntity(spillIfLarge(decoded));
+        }
+    }
+
+    private HttpEntity spillIfLarge(DecodedEntity decoded) throws IOException {
+        try (InputStream content = decoded.getContent()) {
+            ResponseBody body = ResponseBodies.read(content, spillThreshold);
+            ByteArrayEntity replacement;
+            if (body instanceof ResponseBody.Heap heap) {
+                replacement = new ByteArrayEntity(heap.bytes());
+            } else {
+                LAST.set(body);
+                replacement = new ByteArrayEntity(new byte[0]);
+            }
+            replacement.setContentType(decoded.getContentType());
+            return replacement;
+        }
+    }
+
+    /**
+     * Entity that decompresses the wrapped entity while it is read, if its coding is supported, and counts bytes
+     * before and after decoding. Reaching the end of the body or closing it takes the connection byte counters.
+     */
+    private static final class DecodedEntity extends HttpEntityWrapper {
+
+        private final String encoding;
+        private final boolean decoding;
+        private final CountingInputStream wire;
+        private CountingInputStream decoded;
+
+        private DecodedEntity(HttpEntity entity, String encoding) throws IOException {
+            super(entity);
+            this.encoding = encoding;
+            this.decoding = ResponseBodies.isSupported(encoding) && !encoding.equals(RequestTimings.IDENTITY);
+            this.wire = decoding
+                    ? new CountingInputStream(entity.getContent())
+                    : new CountingInputStream(entity.getContent(), RequestTimingRecorder::markResponseReceived);
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            if (decoded == null) {
+                decoded = decoding
+                        ? new CountingInputStream(ResponseBodies.decode(wire, encoding), RequestTimingRecorder::markResponseReceived)
+                        : wire;
+            }
+            return decoded;
+        }
+
+        private long decodedCount() {
+            return decoded == null ? 0 : decoded.count();
+        }
+
+        @Override
+        public long getContentLength() {
+            return decoding ? -1 : super.getContentLength();
+        }
+
+        @Override
+        public Header getContentEncoding() {
+            return ResponseBodies.isSupported(encoding) ? null : super.getContentEncoding();
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return true;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            try (InputStream content = getContent()) {
+                content.transferTo(out);
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.fakeRestApi.apiClient;
+
+import com.fakeRestApi.config.ConfigHandler;
+import com.fakeRestApi.metrics.RequestTimingRecorder;
+import com.fakeRestApi.serialization.CodecObjectMapper;
+import com.fakeRestApi.utils.ResponseBody;
+import com.fakeRestApi.utils.ResponseParser;
+import io.qameta.allure.restassured.AllureRestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
+import io.restassured.filter.log.LogDetail;
+import io.restassured.filter.log.RequestLoggingFilter;
+import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * HTTP/1.1 transport through RestAssured with Allure attachments, optional request/response logging,
+ * phase timings, response compression and disk spilling of large bodies.
+ */
+public class RestAssuredTransport implements HttpTransport {
+
+    private final RequestSpecification requestSpecification;
+    private final boolean lightweightResponses;
+
+    /**
+     * Creates a transport for the base URL, log level, trust, spill and compression settings of {@link ConfigHandler}.
+     * Maps bodies through the generated JSON codecs and the shared Jackson mapper.
+     */
+    public RestAssuredTransport() {
+        this.lightweightResponses = ConfigHandler.isLightweightResponses();
+
+        List<Filter> filters = new ArrayList<>();
+        filters.add(new AllureRestAssured());
+
+        if (isVerbose(ConfigHandler.getLogLevel())) {
+            filters.add(new RequestLoggingFilter());
+            filters.add(new ResponseLoggingFilter());
+        }
+        filters.add(new TimingFilter());
+
+        RestAssuredConfig config = RestAssuredConfig.config()
+                .httpClient(HttpClientConfig.httpClientConfig()
+                        .httpClientFactory(new TimingHttpClientFactory(
+                                ConfigHandler.isTrustAllCertificates(),
+                                ConfigHandler.getResponseSpillThreshold(),
+                                ConfigHandler.getAcceptEncoding())))
+                // Bodies are decoded by the HTTP client while they stream in, not by RestAssured
+                .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders())
+                .objectMapperConfig(ObjectMapperConfig.objectMapperConfig()
+                        .defaultObjectMapper(new CodecObjectMapper()));
+
+        this.requestSpecification = new RequestSpecBuilder()
+                .setConfig(config)
+                .setBaseUri(ConfigHandler.getBaseUrl())
+                .setContentType(ContentType.JSON)
+                .setAccept(ContentType.JSON)
+                .addFilters(filters)
+                .build()
+                .log().ifValidationFails(LogDetail.ALL);
+    }
+
+    /**
+     * Checks whether the configured log level is verbose.
+     * @param level log level string (DEBUG or TRACE)
+     * @return true if verbose logging should be enabled
+     */
+    private boolean isVerbose(String level) {
+        return "DEBUG".equalsIgnoreCase(level) || "TRACE".equalsIgnoreCase(level);
+    }
+
+    /**
+     * Sends the request with the path values passed as unnamed path parameters, so no parameter map is built per call.
+     * Each call still merges the shared specification into a new one: RestAssured specifications are mutable and
+     * keep the path, body and response of the request they sent, so one cannot be prebuilt per template and shared.
+     */
+    @Override
+    public <T> ResponseParser<T> send(RequestTemplate template, Object body, Class<T> type, Object... pathValues) {
+        RequestSpecification request = given().spec(requestSpecification);
+        if (template.hasBody() && body != null) {
+            if (body instanceof byte[] bytes) {
+                request.body(bytes);
+            } else if (body instanceof InputStream stream) {
+                request.body(stream);
+            } else {
+                request.body(body);
+            }
+        }
+        Response response = request.when()
+                .request(template.method(), template.pathTemplate(), pathValues)
+                .then().extract().response();
+        return parse(response, type);
+    }
+
+    /**
+     * Wraps a response together with the timings of the call that produced it.
+     * In lightweight mode the Response itself is not retained; bodies spilled to disk are read memory-mapped.
+     * @param response RestAssured response
+     * @param type class type for deserialization
+     * @return ResponseParser with typed entity
+     */
+    private <T> ResponseParser<T> parse(Response response, Class<T> type) {
+        ResponseBody spilledBody = ResponseBodyInterceptor.takeLast();
+        return lightweightResponses
+                ? ResponseParser.lightweight(response, type, RequestTimingRecorder.takeLast(), spilledBody)
+                : ResponseParser.of(response, type, RequestTimingRecorder.takeLast(), spilledBody);
+    }
+}
@@ -0,0 +1,48 @@
+package com.fakeRestApi.apiClient;
+
+import com.fakeRestApi.metrics.EndpointMetrics;
+import com.fakeRestApi.metrics.RequestTimingRecorder;
+import com.fakeRestApi.metrics.RequestTimings;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RestAssured filter that opens a timing recording around the HTTP exchange
+ * and aggregates the result per endpoint in {@link EndpointMetrics}.
+ * Uses the lowest precedence and must be registered last, so that only the exchange itself is measured.
+ */
+@Slf4j
+public class TimingFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        RequestTimingRecorder.begin();
+        ResponseBodyInterceptor.clear();
+        Response response;
+        long responseBytes = 0;
+        RequestTimings timings;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+            responseBytes = response.asByteArray().length;
+        } finally {
+            // Closes the recording even if the exchange failed, so no phases leak into the next call on this thread
+            timings = RequestTimingRecorder.end(0, responseBytes);
+        }
+
+        String endpoint = EndpointMetrics.key(requestSpec.getMethod(), requestSpec.getUserDefinedPath());
+        EndpointMetrics.record(requestSpec.getBaseUri() + requestSpec.getBasePath(), endpoint, timings);
+        log.debug("{} -> {} [{}]", endpoint, response.getStatusCode(), timings);
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,199 @@
+package com.fakeRestApi.apiClient;
+
+import com.fakeRestApi.metrics.RequestTimingRecorder;
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.HttpConnection;
+import org.apache.http.HttpConnectionMetrics;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.HttpInetSocketAddress;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeLayeredSocketFactory;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.scheme.SchemeSocketFactory;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.ExecutionContext;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.UnknownHostException;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+
+/**
+ * RestAssured HTTP client factory whose clients report DNS, connect, TLS and first-byte marks
+ * to {@link RequestTimingRecorder}, negotiate response compression and spill large response bodies to disk.
+ */
+@SuppressWarnings("deprecation")
+public class TimingHttpClientFactory implements HttpClientConfig.HttpClientFactory {
+
+    private final boolean trustAllCertificates;
+    private final long spillThreshold;
+    private final String acceptEncoding;
+
+    /**
+     * @param trustAllCertificates accept any server certificate and host name (self-signed local stand-ins only)
+     * @param spillThreshold body size in bytes above which response bodies are spilled to disk; 0 disables spilling
+     * @param acceptEncoding comma-separated content codings to request; unsupported ones are dropped, empty disables
+     */
+    public TimingHttpClientFactory(boolean trustAllCertificates, long spillThreshold, String acceptEncoding) {
+        this.trustAllCertificates = trustAllCertificates;
+        this.spillThreshold = spillThreshold;
+        this.acceptEncoding = ResponseBodies.acceptEncoding(acceptEncoding);
+    }
+
+    @Override
+    public HttpClient createHttpClient() {
+        SchemeRegistry schemes = new SchemeRegistry();
+        schemes.register(new Scheme("http", 80, new TimedPlainSocketFactory()));
+        schemes.register(new Scheme("https", 443, new TimedSslSocketFactory(sslSocketFactory())));
+
+        DefaultHttpClient client = new DefaultHttpClient(new PoolingClientConnectionManager(schemes, new TimedDnsResolver()));
+        client.addRequestInterceptor((request, context) -> {
+            if (!acceptEncoding.isEmpty() && !request.containsHeader("Accept-Encoding")) {
+                request.addHeader("Accept-Encoding", acceptEncoding);
+            }
+            HttpConnection connection = (HttpConnection) context.getAttribute(ExecutionContext.HTTP_CONNECTION);
+            if (connection != null) {
+                HttpConnectionMetrics metrics = connection.getMetrics();
+                RequestTimingRecorder.markRequestSent(metrics::getSentBytesCount, metrics::getReceivedBytesCount);
+            }
+        });
+        client.addResponseInterceptor((response, context) -> RequestTimingRecorder.markFirstByte());
+        client.addResponseInterceptor(new ResponseBodyInterceptor(spillThreshold));
+        return client;
+    }
+
+    private SSLSocketFactory sslSocketFactory() {
+        if (!trustAllCertificates) return SSLSocketFactory.getSocketFactory();
+        return new SSLSocketFactory(trustAllSslContext(), SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER);
+    }
+
+    /**
+     * Creates an SSL context that accepts any server certificate and host name.
+     * @return trust-all SSL context
+     */
+    static SSLContext trustAllSslContext() {
+        try {
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(null, new TrustManager[]{new TrustAllManager()}, new SecureRandom());
+            return context;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize trust-all SSL context", e);
+        }
+    }
+
+    private static final class TimedDnsResolver implements DnsResolver {
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+            long start = System.nanoTime();
+            try {
+                return SystemDefaultDnsResolver.INSTANCE.resolve(host);
+            } finally {
+                RequestTimingRecorder.addDns(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static class TimedPlainSocketFactory implements SchemeSocketFactory {
+        private final PlainSocketFactory plain = PlainSocketFactory.getSocketFactory();
+
+        @Override
+        public Socket createSocket(HttpParams params) throws IOException {
+            return plain.createSocket(params);
+        }
+
+        @Override
+        public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                    HttpParams params) throws IOException, ConnectTimeoutException {
+            long start = System.nanoTime();
+            try {
+                return plain.connectSocket(socket, remoteAddress, localAddress, params);
+            } finally {
+                RequestTimingRecorder.addConnect(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public boolean isSecure(Socket socket) {
+            return false;
+        }
+    }
+
+    /**
+     * Connects a plain socket first and layers TLS on top of it, so both phases are timed separately.
+     */
+    private static final class TimedSslSocketFactory extends TimedPlainSocketFactory implements SchemeLayeredSocketFactory {
+        private final SSLSocketFactory ssl;
+
+        private TimedSslSocketFactory(SSLSocketFactory ssl) {
+            this.ssl = ssl;
+        }
+
+        @Override
+        public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                    HttpParams params) throws IOException, ConnectTimeoutException {
+            Socket connected = super.connectSocket(socket, remoteAddress, localAddress, params);
+            String host = remoteAddress instanceof HttpInetSocketAddress address
+                    ? address.getHttpHost().getHostName()
+                    : remoteAddress.getHostName();
+            return createLayeredSocket(connected, host, remoteAddress.getPort(), params);
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpParams params) throws IOException {
+            long start = System.nanoTime();
+            try {
+                return ssl.createLayeredSocket(socket, target, port, params);
+            } finally {
+                RequestTimingRecorder.addTls(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public boolean isSecure(Socket socket) {
+            return ssl.isSecure(socket);
+        }
+    }
+
+    /**
+     * Extended trust manager, so that JSSE does not add its own host name check on top of it.
+     */
+    private static final class TrustAllManager extends X509ExtendedTrustManager {
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {}
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {}
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) {}
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) {}
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {}
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {}
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
@@ -54,6 +54,146 @@ public class ConfigHandler {
         return System.getProperty("log.level", PROPERTIES.getProperty("log.level", "INFO"));
     }
 
+    /**
+     * Returns whether any server certificate and host name should be accepted over HTTPS.
+     * Intended for local stand-in servers with self-signed certificates only. Defaults to false.
+     * @return true if certificate validation is disabled
+     */
+    public static boolean isTrustAllCertificates() {
+        return Boolean.parseBoolean(System.getProperty("tls.trust.all", PROPERTIES.getProperty("tls.trust.all", "false")));
+    }
+
+    /**
+     * Returns whether API clients should keep only status, headers and body bytes instead of the full Response.
+     * Reduces memory per in-flight response in parallel runs. Defaults to false.
+     * @return true if lightweight responses are enabled
+     */
+    public static boolean isLightweightResponses() {
+        return Boolean.parseBoolean(System.getProperty("response.lightweight", PROPERTIES.getProperty("response.lightweight", "false")));
+    }
+
+    /**
+     * Returns the response body size in bytes above which bodies are spilled to a temp file and read memory-mapped.
+     * Defaults to 16 MiB; 0 disables spilling.
+     * @return spill threshold in bytes
+     */
+    public static long getResponseSpillThreshold() {
+        return Long.parseLong(System.getProperty("response.spill.threshold",
+                PROPERTIES.getProperty("response.spill.threshold", String.valueOf(16L * 1024 * 1024))));
+    }
+
+    /**
+     * Returns the content codings to negotiate for responses, as a comma-separated list.
+     * Supported codings are gzip and deflate; {@code none} disables compression. Defaults to {@code gzip,deflate}.
+     * @return requested content codings
+     */
+    public static String getAcceptEncoding() {
+        return System.getProperty("http.compression", PROPERTIES.getProperty("http.compression", "gzip,deflate"));
+    }
+
+    /**
+     * Returns the HTTP transport used by the API clients.
+     * {@code restassured} sends HTTP/1.1 through RestAssured, {@code jdk} sends HTTP/1.1 through the JDK HTTP client
+     * and {@code http2} multiplexes calls over HTTP/2 with the JDK HTTP client. Defaults to {@code restassured}.
+     * @return transport name in lower case
+     */
+    public static String getHttpTransport() {
+        return System.getProperty("http.transport", PROPERTIES.getProperty("http.transport", "restassured")).trim().toLowerCase();
+    }
+
+    /**
+     * Returns the maximum number of requests a batch lookup keeps in flight at once. Defaults to 16.
+     * @return batch parallelism, at least 1
+     * @throws IllegalArgumentException if the configured value is below 1
+     */
+    public static int getBatchParallelism() {
+        int parallelism = Integer.parseInt(System.getProperty("batch.parallelism", PROPERTIES.getProperty("batch.parallelism", "16")));
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("batch.parallelism must be at least 1 but was " + parallelism);
+        }
+        return parallelism;
+    }
+
+    /**
+     * Returns whether GET calls are hedged with a duplicate request when the first one is slow. Defaults to false.
+     * @return true if hedging is enabled
+     */
+    public static boolean isHedgingEnabled() {
+        return Boolean.parseBoolean(System.getProperty("hedging.enabled", PROPERTIES.getProperty("hedging.enabled", "false")));
+    }
+
+    /**
+     * Returns the latency percentile of an endpoint after which a hedged request is sent. Defaults to 95.
+     * @return percentile in the range (0, 100]
+     */
+    public static double getHedgingPercentile() {
+        return Double.parseDouble(System.getProperty("hedging.percentile", PROPERTIES.getProperty("hedging.percentile", "95")));
+    }
+
+    /**
+     * Returns the lower bound of the hedging delay in milliseconds. Defaults to 50.
+     * @return minimum hedging delay in milliseconds
+     */
+    public static long getHedgingMinDelayMillis() {
+        return Long.parseLong(System.getProperty("hedging.min.delay.ms", PROPERTIES.getProperty("hedging.min.delay.ms", "50")));
+    }
+
+    /**
+     * Returns the number of recorded calls an endpoint needs before its calls are hedged. Defaults to 20.
+     * @return minimum sample count
+     */
+    public static long getHedgingMinSamples() {
+        return Long.parseLong(System.getProperty("hedging.min.samples", PROPERTIES.getProperty("hedging.min.samples", "20")));
+    }
+
+    /**
+     * Returns the maximum number of hedged requests per GET call, capping the extra load. Defaults to 0.1.
+     * @return maximum ratio of hedged to eligible calls
+     */
+    public static double getHedgingMaxRatio() {
+        return Double.parseDouble(System.getProperty("hedging.max.ratio", PROPERTIES.getProperty("hedging.max.ratio", "0.1")));
+    }
+
+    /**
+     * Returns whether calls go through the adaptive concurrency limiter of their target. Defaults to false.
+     * @return true if concurrency limiting is enabled
+     */
+    public static boolean isConcurrencyLimitEnabled() {
+        return Boolean.parseBoolean(System.getProperty("concurrency.limit.enabled", PROPERTIES.getProperty("concurrency.limit.enabled", "false")));
+    }
+
+    /**
+     * Returns the concurrency limit the adaptive limiter starts from. Defaults to 8.
+     * @return initial limit
+     */
+    public static int getConcurrencyLimitInitial() {
+        return Integer.parseInt(System.getProperty("concurrency.limit.initial", PROPERTIES.getProperty("concurrency.limit.initial", "8")));
+    }
+
+    /**
+     * Returns the lowest concurrency limit the adaptive limiter backs off to. Defaults to 1.
+     * @return minimum limit
+     */
+    public static int getConcurrencyLimitMin() {
+        return Integer.parseInt(System.getProperty("concurrency.limit.min", PROPERTIES.getProperty("concurrency.limit.min", "1")));
+    }
+
+    /**
+     * Returns the highest concurrency limit the adaptive limiter grows to. Defaults to 256.
+     * @return maximum limit
+     */
+    public static int getConcurrencyLimitMax() {
+        return Integer.parseInt(System.getProperty("concurrency.limit.max", PROPERTIES.getProperty("concurrency.limit.max", "256")));
+    }
+
+    /**
+     * Returns how many times the baseline latency a call may take before the limiter backs off. Defaults to 2.
+     * @return latency tolerance factor, greater than 1
+     */
+    public static double getConcurrencyLimitTolerance() {
+        return Double.parseDouble(System.getProperty("concurrency.limit.tolerance", PROPERTIES.getProperty("concurrency.limit.tolerance", "2")));
+    }
+
     /**
      * Retrieves a property value by key with optional system override.
      * @param key property key name
@@ -0,0 +1,39 @@
+package com.fakeRestApi.load;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Results of a distributed load run: the merged report of all workers and each worker's own report.
+ *
+ * @param merged stats of all workers added up
+ * @param workers report per worker id, in registration order
+ * @param failures error message per worker that did not complete its run
+ */
+public record DistributedLoadReport(LoadReport merged, Map<String, LoadReport> workers, Map<String, String> failures) {
+
+    public DistributedLoadReport {
+        workers = Collections.unmodifiableMap(workers);
+        failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Returns whether every worker completed its run.
+     * @return true if no worker failed
+     */
+    public boolean allWorkersCompleted() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Renders the merged report followed by one line per worker.
+     * @return formatted report
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder(merged.report());
+        workers.forEach((worker, r) -> report.append(String.format("worker %-40s %8d journeys %6d failed %10.2f journeys/s%n",
+                worker, r.journeyCount(), r.journeyErrors(), r.throughput())));
+        failures.forEach((worker, message) -> report.append(String.format("worker %-40s FAILED: %s%n", worker, message)));
+        return report.toString();
+    }
+}
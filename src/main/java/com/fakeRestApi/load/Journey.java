@@ -0,0 +1,144 @@
+package com.fakeRestApi.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * A user journey: named steps executed in order, with a think time after each step and a weight
+ * that sets how often the journey is picked in a mix. The steps stop at the first failed one;
+ * finally steps run after them in any case, e.g. to delete what the journey created. Build with {@link #named(String)}:
+ * <pre>{@code
+ * Journey.named("book with author").weight(2).thinkTime(Duration.ofMillis(200))
+ *         .step("createBook", ctx -> ctx.books().createBook(ctx.put("book", TestDataManager.bookWithValidAllFields())))
+ *         .finallyStep("deleteBook", ctx -> ctx.books().deleteBook(ctx.<Book>get("book").id()))
+ *         .build();
+ * }</pre>
+ *
+ * @param name journey name, unique within a mix
+ * @param weight relative frequency in a mix
+ * @param thinkTime mean pause after each step; actual pauses are uniform between half and one and a half times it
+ * @param steps steps in execution order
+ * @param finallySteps steps run after {@code steps} even if one of them failed, in execution order
+ */
+public record Journey(String name, int weight, Duration thinkTime, List<NamedStep> steps, List<NamedStep> finallySteps) {
+
+    /**
+     * A step with the name it is reported under.
+     * @param name step name, unique within the journey
+     * @param step call to execute
+     */
+    public record NamedStep(String name, Step step) {}
+
+    public Journey {
+        if (weight < 1) throw new IllegalArgumentException("Journey '" + name + "' needs a positive weight: " + weight);
+        if (steps.isEmpty()) throw new IllegalArgumentException("Journey '" + name + "' has no steps");
+        if (thinkTime.isNegative()) throw new IllegalArgumentException("Journey '" + name + "' has a negative think time");
+        steps = List.copyOf(steps);
+        finallySteps = List.copyOf(finallySteps);
+    }
+
+    /**
+     * Starts building a journey with weight 1 and no think time.
+     * @param name journey name
+     * @return journey builder
+     */
+    public static Builder named(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Returns the steps followed by the finally steps.
+     * @return all steps in execution order
+     */
+    public List<NamedStep> allSteps() {
+        List<NamedStep> all = new ArrayList<>(steps);
+        all.addAll(finallySteps);
+        return all;
+    }
+
+    /**
+     * Returns the key a step of a journey is reported under.
+     * @param journey journey name
+     * @param step step name
+     * @return report key
+     */
+    public static String stepKey(String journey, String step) {
+        return journey + " / " + step;
+    }
+
+    /**
+     * Fluent builder of a {@link Journey}.
+     */
+    public static final class Builder {
+
+        private final String name;
+        private final List<NamedStep> steps = new ArrayList<>();
+        private final List<NamedStep> finallySteps = new ArrayList<>();
+        private int weight = 1;
+        private Duration thinkTime = Duration.ZERO;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Sets how often the journey is picked relative to the other journeys of a mix.
+         * @param weight positive relative frequency
+         * @return this builder
+         */
+        public Builder weight(int weight) {
+            this.weight = weight;
+            return this;
+        }
+
+        /**
+         * Sets the mean pause after each step.
+         * @param thinkTime mean think time
+         * @return this builder
+         */
+        public Builder thinkTime(Duration thinkTime) {
+            this.thinkTime = thinkTime;
+            return this;
+        }
+
+        /**
+         * Appends a step.
+         * @param stepName name the step is reported under
+         * @param step call to execute
+         * @return this builder
+         */
+        public Builder step(String stepName, Step step) {
+            steps.add(named(stepName, step));
+            return this;
+        }
+
+        /**
+         * Appends a finally step, run after the steps even if one of them failed.
+         * Finally steps run in the order they were added, each regardless of the others.
+         * @param stepName name the step is reported under
+         * @param step call to execute
+         * @return this builder
+         */
+        public Builder finallyStep(String stepName, Step step) {
+            finallySteps.add(named(stepName, step));
+            return this;
+        }
+
+        private NamedStep named(String stepName, Step step) {
+            if (Stream.concat(steps.stream(), finallySteps.stream()).anyMatch(s -> s.name().equals(stepName))) {
+                throw new IllegalArgumentException("Journey '" + name + "' already has a step '" + stepName + "'");
+            }
+            return new NamedStep(stepName, step);
+        }
+
+        /**
+         * Builds the journey.
+         * @return immutable journey
+         */
+        public Journey build() {
+            return new Journey(name, weight, thinkTime, steps, finallySteps);
+        }
+    }
+}
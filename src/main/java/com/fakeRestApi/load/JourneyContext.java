@@ -0,0 +1,73 @@
+package com.fakeRestApi.load;
+
+import com.fakeRestApi.apiClient.AuthorsApi;
+import com.fakeRestApi.apiClient.BooksApi;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * State of one journey iteration, passed from step to step, e.g. the book created in the first step
+ * whose id later steps use. A new context is created for every iteration; the API clients are shared.
+ */
+public final class JourneyContext {
+
+    private final BooksApi books;
+    private final AuthorsApi authors;
+    private final long iteration;
+    private final Map<String, Object> values = new HashMap<>();
+
+    JourneyContext(BooksApi books, AuthorsApi authors, long iteration) {
+        this.books = books;
+        this.authors = authors;
+        this.iteration = iteration;
+    }
+
+    /**
+     * Returns the shared Books client.
+     * @return books API client
+     */
+    public BooksApi books() {
+        return books;
+    }
+
+    /**
+     * Returns the shared Authors client.
+     * @return authors API client
+     */
+    public AuthorsApi authors() {
+        return authors;
+    }
+
+    /**
+     * Returns the sequence number of this iteration across all virtual users, starting at 0.
+     * @return iteration number
+     */
+    public long iteration() {
+        return iteration;
+    }
+
+    /**
+     * Stores a value for the following steps.
+     * @param key value name
+     * @param value value to store
+     * @param <V> value type
+     * @return the stored value
+     */
+    public <V> V put(String key, V value) {
+        values.put(key, value);
+        return value;
+    }
+
+    /**
+     * Returns a value stored by an earlier step.
+     * @param key value name
+     * @param <V> value type
+     * @return stored value
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V get(String key) {
+        if (!values.containsKey(key)) throw new IllegalStateException("No value '" + key + "' stored by an earlier step");
+        return (V) values.get(key);
+    }
+}
@@ -0,0 +1,225 @@
+package com.fakeRestApi.load;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coordinator of a distributed load run. Waits until the expected number of {@link LoadWorker workers} has connected,
+ * starts them all at once with the same {@link LoadPlan}, logs their merged progress and merges their final reports.
+ * Workers can run as separate processes on this or other machines; histograms are merged bucket by bucket,
+ * so the percentiles of the merged report are those of all calls, not averages of per-worker percentiles.
+ *
+ * <p>{@link #main(String[])} is configured through system properties: {@code load.coordinator.port} (default 7070),
+ * {@code load.workers} (default 2), {@code load.registrationTimeout} (seconds, default 120) and the plan properties
+ * of {@link LoadPlan#fromSystemProperties()}. Exits with status 1 if a worker did not complete its run.
+ */
+@Slf4j
+public final class LoadCoordinator implements AutoCloseable {
+
+    /** Time between sending START and the workers starting, so that all workers start together */
+    private static final long START_DELAY_MILLIS = 500;
+    private static final Duration PROGRESS_LOG_INTERVAL = Duration.ofSeconds(5);
+    /** Time a worker may take beyond its planned duration to send its report */
+    private static final Duration RESULT_GRACE = Duration.ofSeconds(60);
+
+    private final ServerSocket server;
+
+    private record WorkerConnection(String id, Socket socket, DataInputStream in, DataOutputStream out) {}
+
+    private LoadCoordinator(ServerSocket server) {
+        this.server = server;
+    }
+
+    /**
+     * Opens the coordinator port.
+     * @param port port to listen on, 0 for any free port
+     * @return listening coordinator
+     */
+    public static LoadCoordinator listen(int port) {
+        try {
+            return new LoadCoordinator(new ServerSocket(port));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to listen on port " + port, e);
+        }
+    }
+
+    public static void main(String[] args) {
+        int port = Integer.getInteger("load.coordinator.port", 7070);
+        int workers = Integer.getInteger("load.workers", 2);
+        Duration registrationTimeout = Duration.ofSeconds(Long.getLong("load.registrationTimeout", 120));
+        LoadPlan plan = LoadPlan.fromSystemProperties();
+
+        DistributedLoadReport report;
+        try (LoadCoordinator coordinator = listen(port)) {
+            report = coordinator.run(plan, workers, registrationTimeout);
+        }
+        System.out.println(report.report());
+        if (!report.allWorkersCompleted()) System.exit(1);
+    }
+
+    /**
+     * Returns the port the coordinator listens on.
+     * @return local port
+     */
+    public int port() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * Waits for the workers, runs the plan on all of them and collects their reports.
+     * The merged report covers the workers that completed their run.
+     * @param plan plan every worker runs
+     * @param workerCount number of workers to wait for
+     * @param registrationTimeout how long to wait for all workers to connect
+     * @return merged and per-worker reports
+     */
+    public DistributedLoadReport run(LoadPlan plan, int workerCount, Duration registrationTimeout) {
+        log.info("Coordinator waiting on port {} for {} workers", port(), workerCount);
+        List<WorkerConnection> workers = register(workerCount, registrationTimeout);
+        Map<String, LoadReport> latest = new ConcurrentHashMap<>();
+        Map<String, LoadReport> completed = new ConcurrentHashMap<>();
+        Map<String, String> failed = new ConcurrentHashMap<>();
+        try {
+            for (WorkerConnection worker : workers) {
+                LoadProtocol.writeStart(worker.out(), START_DELAY_MILLIS, plan);
+                worker.out().flush();
+            }
+            log.info("Started {} workers running '{}' with {} users each", workers.size(), plan.scenario(), plan.users());
+
+            int readTimeoutMillis = Math.toIntExact(plan.duration().plus(RESULT_GRACE).toMillis() + START_DELAY_MILLIS);
+            try (ExecutorService readers = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (WorkerConnection worker : workers) {
+                    readers.submit(() -> collect(worker, readTimeoutMillis, latest, completed, failed));
+                }
+                readers.shutdown();
+                while (!readers.awaitTermination(PROGRESS_LOG_INTERVAL.toMillis(), TimeUnit.MILLISECONDS)) {
+                    log.info("Progress of {} workers:\n{}", latest.size(), LoadReport.merge(latest.values()).report());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start workers", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for workers", e);
+        } finally {
+            workers.forEach(worker -> closeQuietly(worker.socket()));
+        }
+
+        Map<String, LoadReport> reports = new LinkedHashMap<>();
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (WorkerConnection worker : workers) {
+            if (completed.containsKey(worker.id())) reports.put(worker.id(), completed.get(worker.id()));
+            else failures.put(worker.id(), failed.getOrDefault(worker.id(), "no report received"));
+        }
+        return new DistributedLoadReport(LoadReport.merge(reports.values()), reports, failures);
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(server);
+    }
+
+    private List<WorkerConnection> register(int workerCount, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<WorkerConnection> workers = new ArrayList<>();
+        try {
+            while (workers.size() < workerCount) {
+                long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+                if (remainingMillis <= 0) throw new SocketTimeoutException();
+                server.setSoTimeout(Math.toIntExact(remainingMillis));
+                Socket socket = server.accept();
+                try {
+                    socket.setTcpNoDelay(true);
+                    socket.setSoTimeout(Math.toIntExact(remainingMillis));
+                    DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+                    String id = uniqueId(workers, LoadProtocol.readHello(in));
+                    workers.add(new WorkerConnection(id, socket, in, out));
+                    log.info("Worker {} registered from {} ({}/{})", id, socket.getRemoteSocketAddress(), workers.size(), workerCount);
+                } catch (SocketTimeoutException e) {
+                    closeQuietly(socket);
+                    throw e;
+                } catch (IOException e) {
+                    log.warn("Rejected connection from {}: {}", socket.getRemoteSocketAddress(), e.getMessage());
+                    closeQuietly(socket);
+                }
+            }
+            return workers;
+        } catch (SocketTimeoutException e) {
+            workers.forEach(worker -> closeQuietly(worker.socket()));
+            throw new IllegalStateException("Only " + workers.size() + " of " + workerCount
+                    + " workers registered within " + timeout.toSeconds() + " s", e);
+        } catch (IOException e) {
+            workers.forEach(worker -> closeQuietly(worker.socket()));
+            throw new UncheckedIOException("Failed to accept workers", e);
+        }
+    }
+
+    private static void collect(WorkerConnection worker, int readTimeoutMillis, Map<String, LoadReport> latest,
+                                Map<String, LoadReport> completed, Map<String, String> failed) {
+        try {
+            worker.socket().setSoTimeout(readTimeoutMillis);
+            while (true) {
+                byte type = worker.in().readByte();
+                switch (type) {
+                    case LoadProtocol.PROGRESS -> latest.put(worker.id(), LoadReport.readFrom(worker.in()));
+                    case LoadProtocol.DONE -> {
+                        LoadReport report = LoadReport.readFrom(worker.in());
+                        latest.put(worker.id(), report);
+                        completed.put(worker.id(), report);
+                        log.info("Worker {} completed {} journeys", worker.id(), report.journeyCount());
+                        return;
+                    }
+                    case LoadProtocol.FAILED -> {
+                        String message = worker.in().readUTF();
+                        failed.put(worker.id(), message);
+                        log.warn("Worker {} failed: {}", worker.id(), message);
+                        return;
+                    }
+                    default -> throw new IOException("Unexpected message type " + type);
+                }
+            }
+        } catch (IOException e) {
+            failed.put(worker.id(), "connection lost: " + e);
+            log.warn("Lost connection to worker {}", worker.id(), e);
+        }
+    }
+
+    private static String uniqueId(List<WorkerConnection> workers, String id) {
+        String unique = id;
+        for (int n = 2; isTaken(workers, unique); n++) {
+            unique = id + "#" + n;
+        }
+        return unique;
+    }
+
+    private static boolean isTaken(List<WorkerConnection> workers, String id) {
+        return workers.stream().anyMatch(worker -> worker.id().equals(id));
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            log.debug("Failed to close {}", closeable, e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.fakeRestApi.load;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Settings of a load run that can be sent to distributed workers: which {@link Scenarios} mix to run and how.
+ * Each worker runs the whole plan, so the total load is the plan times the number of workers.
+ *
+ * @param scenario name of the mix, see {@link Scenarios#named(String, Duration)}
+ * @param users virtual users per worker
+ * @param duration run duration, including the ramp-up
+ * @param rampUp time over which the users of a worker are started
+ * @param thinkTime mean pause after each step
+ * @param iterations journey budget per worker
+ * @param baseUrl API base URL the workers target, or null to use their own configuration
+ */
+public record LoadPlan(String scenario, int users, Duration duration, Duration rampUp, Duration thinkTime,
+                       long iterations, String baseUrl) {
+
+    /**
+     * Reads a plan from the {@code load.*} system properties:
+     * {@code load.scenario} (default booksAndAuthors), {@code load.users} (16), {@code load.duration} (seconds, 30),
+     * {@code load.rampUp} (seconds, 0), {@code load.thinkTime} (milliseconds, 100) and {@code load.iterations}
+     * (unlimited). The workers target {@code base.api.url} if it is set.
+     * @return plan
+     */
+    public static LoadPlan fromSystemProperties() {
+        return new LoadPlan(
+                System.getProperty("load.scenario", "booksAndAuthors"),
+                Integer.getInteger("load.users", 16),
+                Duration.ofSeconds(Long.getLong("load.duration", 30)),
+                Duration.ofSeconds(Long.getLong("load.rampUp", 0)),
+                Duration.ofMillis(Long.getLong("load.thinkTime", 100)),
+                Long.getLong("load.iterations", Long.MAX_VALUE),
+                System.getProperty("base.api.url"));
+    }
+
+    /**
+     * Creates a runner executing this plan.
+     * @return configured load runner
+     */
+    public LoadRunner runner() {
+        return LoadRunner.of(Scenarios.named(scenario, thinkTime))
+                .users(users)
+                .duration(duration)
+                .rampUp(rampUp)
+                .iterations(iterations);
+    }
+
+    /**
+     * Writes this plan to a stream.
+     * @param out stream to write to
+     * @throws IOException if writing fails
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeUTF(scenario);
+        out.writeInt(users);
+        out.writeLong(duration.toMillis());
+        out.writeLong(rampUp.toMillis());
+        out.writeLong(thinkTime.toMillis());
+        out.writeLong(iterations);
+        out.writeUTF(baseUrl == null ? "" : baseUrl);
+    }
+
+    /**
+     * Reads a plan written by {@link #writeTo(DataOutput)}.
+     * @param in stream to read from
+     * @return plan
+     * @throws IOException if reading fails
+     */
+    public static LoadPlan readFrom(DataInput in) throws IOException {
+        String scenario = in.readUTF();
+        int users = in.readInt();
+        Duration duration = Duration.ofMillis(in.readLong());
+        Duration rampUp = Duration.ofMillis(in.readLong());
+        Duration thinkTime = Duration.ofMillis(in.readLong());
+        long iterations = in.readLong();
+        String baseUrl = in.readUTF();
+        return new LoadPlan(scenario, users, duration, rampUp, thinkTime, iterations, baseUrl.isEmpty() ? null : baseUrl);
+    }
+}
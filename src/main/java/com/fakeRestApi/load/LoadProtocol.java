@@ -0,0 +1,68 @@
+package com.fakeRestApi.load;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Messages exchanged between a {@link LoadCoordinator} and its {@link LoadWorker workers} over a TCP connection.
+ * A worker sends HELLO with its id; the coordinator answers START with a start delay and the plan once all workers
+ * are connected. While running, the worker sends PROGRESS reports with its stats so far, and finally DONE with its
+ * complete report, or FAILED with an error message.
+ */
+final class LoadProtocol {
+
+    static final int MAGIC = 0x4C4F4144;
+    static final int VERSION = 1;
+
+    static final byte HELLO = 1;
+    static final byte START = 2;
+    static final byte PROGRESS = 3;
+    static final byte DONE = 4;
+    static final byte FAILED = 5;
+
+    /** Private constructor to prevent instantiation */
+    private LoadProtocol() {}
+
+    static void writeHello(DataOutput out, String workerId) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeByte(HELLO);
+        out.writeUTF(workerId);
+    }
+
+    /**
+     * Reads a HELLO message and checks that the peer speaks this protocol.
+     * @return worker id
+     */
+    static String readHello(DataInput in) throws IOException {
+        int magic = in.readInt();
+        int version = in.readInt();
+        if (magic != MAGIC || version != VERSION) {
+            throw new IOException("Not a load worker or unsupported protocol version " + version);
+        }
+        expect(in, HELLO);
+        return in.readUTF();
+    }
+
+    static void writeStart(DataOutput out, long startDelayMillis, LoadPlan plan) throws IOException {
+        out.writeByte(START);
+        out.writeLong(startDelayMillis);
+        plan.writeTo(out);
+    }
+
+    static void writeReport(DataOutput out, byte type, LoadReport report) throws IOException {
+        out.writeByte(type);
+        report.writeTo(out);
+    }
+
+    static void writeFailure(DataOutput out, String message) throws IOException {
+        out.writeByte(FAILED);
+        out.writeUTF(message == null ? "unknown error" : message);
+    }
+
+    static void expect(DataInput in, byte type) throws IOException {
+        byte actual = in.readByte();
+        if (actual != type) throw new IOException("Expected message type " + type + " but got " + actual);
+    }
+}
@@ -0,0 +1,166 @@
+package com.fakeRestApi.load;
+
+import com.fakeRestApi.metrics.LatencyHistogram;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Results of a load run: stats per journey and per step, in the order the journeys and steps were defined.
+ * Journey latency is the sum of its step latencies, without think time.
+ * Reports of runs in several processes can be sent over a stream and merged into one.
+ *
+ * @param journeys stats per journey name
+ * @param steps stats per step key, see {@link Journey#stepKey(String, String)}
+ * @param elapsed wall-clock time of the run
+ */
+public record LoadReport(Map<String, LoadStats> journeys, Map<String, LoadStats> steps, Duration elapsed) {
+
+    public LoadReport {
+        journeys = Collections.unmodifiableMap(journeys);
+        steps = Collections.unmodifiableMap(steps);
+    }
+
+    /**
+     * Returns the stats of a journey.
+     * @param name journey name
+     * @return journey stats
+     */
+    public LoadStats journey(String name) {
+        LoadStats stats = journeys.get(name);
+        if (stats == null) throw new IllegalArgumentException("Unknown journey '" + name + "'");
+        return stats;
+    }
+
+    /**
+     * Returns the stats of a step.
+     * @param journey journey name
+     * @param step step name
+     * @return step stats
+     */
+    public LoadStats step(String journey, String step) {
+        LoadStats stats = steps.get(Journey.stepKey(journey, step));
+        if (stats == null) throw new IllegalArgumentException("Unknown step '" + step + "' of journey '" + journey + "'");
+        return stats;
+    }
+
+    /**
+     * Merges reports of runs executed at the same time, e.g. by several workers.
+     * Stats are added up per journey and step; the elapsed time is the longest one.
+     * @param reports reports to merge
+     * @return merged report
+     */
+    public static LoadReport merge(Collection<LoadReport> reports) {
+        Map<String, LoadStats> journeys = new LinkedHashMap<>();
+        Map<String, LoadStats> steps = new LinkedHashMap<>();
+        Duration elapsed = Duration.ZERO;
+        for (LoadReport report : reports) {
+            report.journeys().forEach((name, stats) -> journeys.computeIfAbsent(name, n -> new LoadStats()).merge(stats));
+            report.steps().forEach((key, stats) -> steps.computeIfAbsent(key, k -> new LoadStats()).merge(stats));
+            if (report.elapsed().compareTo(elapsed) > 0) elapsed = report.elapsed();
+        }
+        return new LoadReport(journeys, steps, elapsed);
+    }
+
+    /**
+     * Writes this report to a stream.
+     * @param out stream to write to
+     * @throws IOException if writing fails
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeLong(elapsed.toNanos());
+        writeStats(out, journeys);
+        writeStats(out, steps);
+    }
+
+    /**
+     * Reads a report written by {@link #writeTo(DataOutput)}.
+     * @param in stream to read from
+     * @return report
+     * @throws IOException if reading fails
+     */
+    public static LoadReport readFrom(DataInput in) throws IOException {
+        Duration elapsed = Duration.ofNanos(in.readLong());
+        Map<String, LoadStats> journeys = readStats(in);
+        Map<String, LoadStats> steps = readStats(in);
+        return new LoadReport(journeys, steps, elapsed);
+    }
+
+    /**
+     * Returns the number of journeys executed.
+     * @return journey count
+     */
+    public long journeyCount() {
+        return journeys.values().stream().mapToLong(LoadStats::count).sum();
+    }
+
+    /**
+     * Returns the number of failed journeys.
+     * @return failed journey count
+     */
+    public long journeyErrors() {
+        return journeys.values().stream().mapToLong(LoadStats::errors).sum();
+    }
+
+    /**
+     * Returns the number of journeys executed per second.
+     * @return journey throughput
+     */
+    public double throughput() {
+        return journeyCount() / Math.max(elapsed.toNanos() / 1_000_000_000.0, 1e-9);
+    }
+
+    /**
+     * Renders journey and step stats as a plain-text table in milliseconds.
+     * @return formatted report
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder(String.format("%-48s %8s %7s %8s %8s %8s %8s %8s %8s%n",
+                "journey / step", "count", "errors", "rate/s", "mean", "p50", "p95", "p99", "max"));
+        double seconds = Math.max(elapsed.toNanos() / 1_000_000_000.0, 1e-9);
+        journeys.forEach((journey, stats) -> {
+            row(report, journey, stats, seconds);
+            String prefix = Journey.stepKey(journey, "");
+            steps.forEach((key, step) -> {
+                if (key.startsWith(prefix)) row(report, "  " + key.substring(prefix.length()), step, seconds);
+            });
+        });
+        report.append(String.format("%d journeys, %d failed, in %d ms (%.2f journeys/s)%n",
+                journeyCount(), journeyErrors(), elapsed.toMillis(), throughput()));
+        return report.toString();
+    }
+
+    private static void writeStats(DataOutput out, Map<String, LoadStats> stats) throws IOException {
+        out.writeInt(stats.size());
+        for (Map.Entry<String, LoadStats> entry : stats.entrySet()) {
+            out.writeUTF(entry.getKey());
+            entry.getValue().writeTo(out);
+        }
+    }
+
+    private static Map<String, LoadStats> readStats(DataInput in) throws IOException {
+        int size = in.readInt();
+        Map<String, LoadStats> stats = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            stats.put(in.readUTF(), LoadStats.readFrom(in));
+        }
+        return stats;
+    }
+
+    private static void row(StringBuilder report, String name, LoadStats stats, double seconds) {
+        LatencyHistogram h = stats.histogram();
+        report.append(String.format("%-48s %8d %7d %8.2f %8.1f %8.1f %8.1f %8.1f %8.1f%n",
+                name, stats.count(), stats.errors(), stats.count() / seconds, ms(h.mean()),
+                ms(h.percentile(50)), ms(h.percentile(95)), ms(h.percentile(99)), ms(h.max())));
+    }
+
+    private static double ms(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+}
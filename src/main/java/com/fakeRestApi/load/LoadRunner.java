@@ -0,0 +1,252 @@
+package com.fakeRestApi.load;
+
+import com.fakeRestApi.apiClient.AuthorsApi;
+import com.fakeRestApi.apiClient.BooksApi;
+import com.fakeRestApi.utils.ResponseParser;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Runs a weighted mix of {@link Journey journeys} with a number of virtual users, each on its own virtual thread.
+ * Every user repeatedly picks a journey with a probability proportional to its weight and runs its steps,
+ * until the run duration is over or the iteration budget is spent.
+ * <pre>{@code
+ * LoadReport report = LoadRunner.of(Scenarios.booksAndAuthors(Duration.ofMillis(200)))
+ *         .users(16).rampUp(Duration.ofSeconds(5)).duration(Duration.ofMinutes(1))
+ *         .run();
+ * }</pre>
+ */
+@Slf4j
+public final class LoadRunner {
+
+    private final List<Journey> journeys;
+    private final int[] cumulativeWeights;
+    private int users = 1;
+    private Duration duration = Duration.ofSeconds(30);
+    private Duration rampUp = Duration.ZERO;
+    private long iterations = Long.MAX_VALUE;
+    private Duration progressInterval;
+    private Consumer<LoadReport> progressListener;
+
+    private LoadRunner(List<Journey> journeys) {
+        if (journeys.isEmpty()) throw new IllegalArgumentException("A load mix needs at least one journey");
+        if (journeys.stream().map(Journey::name).distinct().count() != journeys.size()) {
+            throw new IllegalArgumentException("Journey names in a mix must be unique");
+        }
+        this.journeys = List.copyOf(journeys);
+        this.cumulativeWeights = new int[journeys.size()];
+        int total = 0;
+        for (int i = 0; i < journeys.size(); i++) {
+            total += journeys.get(i).weight();
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Creates a runner for a mix of journeys, with one user for 30 seconds.
+     * @param journeys journeys of the mix
+     * @return load runner
+     */
+    public static LoadRunner of(List<Journey> journeys) {
+        return new LoadRunner(journeys);
+    }
+
+    /**
+     * Creates a runner for a mix of journeys, with one user for 30 seconds.
+     * @param journeys journeys of the mix
+     * @return load runner
+     */
+    public static LoadRunner of(Journey... journeys) {
+        return of(List.of(journeys));
+    }
+
+    /**
+     * Sets the number of concurrent virtual users.
+     * @param users user count
+     * @return this runner
+     */
+    public LoadRunner users(int users) {
+        if (users < 1) throw new IllegalArgumentException("At least one user is needed: " + users);
+        this.users = users;
+        return this;
+    }
+
+    /**
+     * Sets how long the run lasts, including the ramp-up.
+     * @param duration run duration
+     * @return this runner
+     */
+    public LoadRunner duration(Duration duration) {
+        this.duration = duration;
+        return this;
+    }
+
+    /**
+     * Sets the time over which the users are started at even intervals.
+     * @param rampUp ramp-up duration
+     * @return this runner
+     */
+    public LoadRunner rampUp(Duration rampUp) {
+        this.rampUp = rampUp;
+        return this;
+    }
+
+    /**
+     * Ends the run after this many journeys in total, even if the duration is not over.
+     * @param iterations journey budget
+     * @return this runner
+     */
+    public LoadRunner iterations(long iterations) {
+        this.iterations = iterations;
+        return this;
+    }
+
+    /**
+     * Reports the stats collected so far at a fixed interval while the mix runs.
+     * Each report is a snapshot of everything since the start, so a listener can keep just the latest one.
+     * @param interval time between reports
+     * @param listener receiver of the reports, called from a dedicated thread
+     * @return this runner
+     */
+    public LoadRunner progress(Duration interval, Consumer<LoadReport> listener) {
+        this.progressInterval = interval;
+        this.progressListener = listener;
+        return this;
+    }
+
+    /**
+     * Runs the mix and waits until every user has finished its current journey.
+     * The API clients are created once per run with the current configuration and shared by all users.
+     * @return journey and step stats
+     */
+    public LoadReport run() {
+        Map<String, LoadStats> journeyStats = new LinkedHashMap<>();
+        Map<String, LoadStats> stepStats = new LinkedHashMap<>();
+        for (Journey journey : journeys) {
+            journeyStats.put(journey.name(), new LoadStats());
+            journey.allSteps().forEach(step -> stepStats.put(Journey.stepKey(journey.name(), step.name()), new LoadStats()));
+        }
+        BooksApi books = new BooksApi();
+        AuthorsApi authors = new AuthorsApi();
+        AtomicLong started = new AtomicLong();
+
+        log.info("Running {} journeys with {} users for {} s", journeys.size(), users, duration.toSeconds());
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        CountDownLatch finished = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (progressListener != null) {
+                Thread.ofVirtual().name("load-progress").start(() -> reportProgress(journeyStats, stepStats, start, finished));
+            }
+            for (int user = 0; user < users; user++) {
+                long startDelay = rampUp.toNanos() * user / users;
+                executor.submit(() -> {
+                    sleep(startDelay);
+                    long iteration;
+                    while (System.nanoTime() - deadline < 0 && (iteration = started.getAndIncrement()) < iterations) {
+                        Journey journey = pick();
+                        runJourney(journey, new JourneyContext(books, authors, iteration),
+                                journeyStats.get(journey.name()), stepStats);
+                    }
+                    return null;
+                });
+            }
+        } finally {
+            finished.countDown();
+        }
+        LoadReport report = new LoadReport(journeyStats, stepStats, Duration.ofNanos(System.nanoTime() - start));
+        log.info("Load run finished:\n{}", report.report());
+        return report;
+    }
+
+    private void reportProgress(Map<String, LoadStats> journeyStats, Map<String, LoadStats> stepStats,
+                                long start, CountDownLatch finished) {
+        try {
+            while (!finished.await(progressInterval.toNanos(), TimeUnit.NANOSECONDS)) {
+                progressListener.accept(new LoadReport(snapshot(journeyStats), snapshot(stepStats),
+                        Duration.ofNanos(System.nanoTime() - start)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Progress listener failed, no further progress is reported", e);
+        }
+    }
+
+    private static Map<String, LoadStats> snapshot(Map<String, LoadStats> stats) {
+        Map<String, LoadStats> copy = new LinkedHashMap<>();
+        stats.forEach((name, s) -> copy.put(name, s.snapshot()));
+        return copy;
+    }
+
+    private Journey pick() {
+        int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = Arrays.binarySearch(cumulativeWeights, roll + 1);
+        return journeys.get(index >= 0 ? index : -index - 1);
+    }
+
+    private static void runJourney(Journey journey, JourneyContext context, LoadStats journeyStats, Map<String, LoadStats> stepStats) {
+        long busyNanos = 0;
+        boolean failed = false;
+        for (Journey.NamedStep step : journey.steps()) {
+            long start = System.nanoTime();
+            failed = !runStep(journey, step, context, stepStats);
+            busyNanos += System.nanoTime() - start;
+            if (failed) break;
+            think(journey.thinkTime());
+        }
+        for (Journey.NamedStep step : journey.finallySteps()) {
+            long start = System.nanoTime();
+            failed |= !runStep(journey, step, context, stepStats);
+            busyNanos += System.nanoTime() - start;
+            think(journey.thinkTime());
+        }
+        journeyStats.record(busyNanos, failed);
+    }
+
+    /**
+     * Executes one step and records its latency and outcome.
+     * @return true if the step got a 2xx response
+     */
+    private static boolean runStep(Journey journey, Journey.NamedStep step, JourneyContext context, Map<String, LoadStats> stepStats) {
+        String key = Journey.stepKey(journey.name(), step.name());
+        long stepStart = System.nanoTime();
+        boolean failed;
+        try {
+            ResponseParser<?> response = step.step().execute(context);
+            failed = response.statusCode() / 100 != 2;
+            if (failed) log.debug("{} answered {}", key, response.statusCode());
+        } catch (RuntimeException e) {
+            failed = true;
+            log.debug("{} failed", key, e);
+        }
+        stepStats.get(key).record(System.nanoTime() - stepStart, failed);
+        return !failed;
+    }
+
+    private static void think(Duration thinkTime) {
+        if (thinkTime.isZero()) return;
+        sleep((long) (thinkTime.toNanos() * ThreadLocalRandom.current().nextDouble(0.5, 1.5)));
+    }
+
+    private static void sleep(long nanos) {
+        if (nanos <= 0) return;
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.fakeRestApi.load;
+
+import com.fakeRestApi.metrics.LatencyHistogram;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe, mergeable latency and error counts of one journey or step.
+ * Failed executions are counted in the histogram as well, so the latency covers every attempt.
+ */
+public final class LoadStats {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final AtomicLong errors = new AtomicLong();
+
+    /**
+     * Records one execution.
+     * @param nanos execution time in nanoseconds
+     * @param failed true if the execution failed
+     */
+    public void record(long nanos, boolean failed) {
+        histogram.recordNanos(nanos);
+        if (failed) errors.incrementAndGet();
+    }
+
+    /**
+     * Adds the executions recorded by other stats to these.
+     * @param other stats to merge
+     * @return these stats
+     */
+    public LoadStats merge(LoadStats other) {
+        histogram.merge(other.histogram);
+        errors.addAndGet(other.errors.get());
+        return this;
+    }
+
+    /**
+     * Returns a copy of these stats, unaffected by later executions.
+     * @return stats snapshot
+     */
+    public LoadStats snapshot() {
+        return new LoadStats().merge(this);
+    }
+
+    /**
+     * Writes these stats to a stream.
+     * @param out stream to write to
+     * @throws IOException if writing fails
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        histogram.writeTo(out);
+        out.writeLong(errors.get());
+    }
+
+    /**
+     * Reads stats written by {@link #writeTo(DataOutput)}.
+     * @param in stream to read from
+     * @return stats with the written executions
+     * @throws IOException if reading fails
+     */
+    public static LoadStats readFrom(DataInput in) throws IOException {
+        LoadStats stats = new LoadStats();
+        stats.histogram.merge(LatencyHistogram.readFrom(in));
+        stats.errors.set(in.readLong());
+        return stats;
+    }
+
+    /**
+     * Returns the latency histogram of all executions.
+     * @return histogram
+     */
+    public LatencyHistogram histogram() {
+        return histogram;
+    }
+
+    /**
+     * Returns the number of executions.
+     * @return execution count
+     */
+    public long count() {
+        return histogram.count();
+    }
+
+    /**
+     * Returns the number of failed executions.
+     * @return error count
+     */
+    public long errors() {
+        return errors.get();
+    }
+
+    /**
+     * Returns the share of failed executions.
+     * @return error rate between 0 and 1
+     */
+    public double errorRate() {
+        long count = count();
+        return count == 0 ? 0 : (double) errors() / count;
+    }
+}
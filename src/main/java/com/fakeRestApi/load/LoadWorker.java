@@ -0,0 +1,103 @@
+package com.fakeRestApi.load;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.net.Socket;
+import java.time.Duration;
+
+/**
+ * Worker process of a distributed load run. Connects to a {@link LoadCoordinator}, waits for the plan,
+ * runs it and streams its stats back: a progress report every second and the complete report at the end.
+ *
+ * <p>Configured through system properties: {@code load.coordinator} ({@code host:port}, default 127.0.0.1:7070)
+ * and {@code load.worker.id} (default {@code pid@host}). Exits with status 1 if the run could not be completed.
+ */
+@Slf4j
+public final class LoadWorker {
+
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(1);
+
+    /** Private constructor to prevent instantiation */
+    private LoadWorker() {}
+
+    public static void main(String[] args) {
+        String coordinator = System.getProperty("load.coordinator", "127.0.0.1:7070");
+        String workerId = System.getProperty("load.worker.id", ManagementFactory.getRuntimeMXBean().getName());
+        int separator = coordinator.lastIndexOf(':');
+        try {
+            run(coordinator.substring(0, separator), Integer.parseInt(coordinator.substring(separator + 1)), workerId);
+        } catch (RuntimeException e) {
+            log.error("Load worker {} failed", workerId, e);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Connects to a coordinator, runs the plan it sends and reports the results.
+     * @param host coordinator host
+     * @param port coordinator port
+     * @param workerId id the worker is reported under
+     * @return report of this worker's run
+     */
+    public static LoadReport run(String host, int port, String workerId) {
+        try (Socket socket = new Socket(host, port)) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            LoadProtocol.writeHello(out, workerId);
+            out.flush();
+            log.info("Worker {} connected to coordinator {}:{}, waiting for start", workerId, host, port);
+
+            LoadProtocol.expect(in, LoadProtocol.START);
+            long startDelayMillis = in.readLong();
+            LoadPlan plan = LoadPlan.readFrom(in);
+            try {
+                Thread.sleep(startDelayMillis);
+                if (plan.baseUrl() != null) System.setProperty("base.api.url", plan.baseUrl());
+                LoadReport report = plan.runner()
+                        .progress(PROGRESS_INTERVAL, progress -> send(out, LoadProtocol.PROGRESS, progress))
+                        .run();
+                send(out, LoadProtocol.DONE, report);
+                return report;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(out, "Worker " + workerId + " was interrupted");
+                throw new IllegalStateException("Worker " + workerId + " was interrupted", e);
+            } catch (RuntimeException e) {
+                fail(out, e.toString());
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lost connection to coordinator " + host + ":" + port, e);
+        }
+    }
+
+    private static void send(DataOutputStream out, byte type, LoadReport report) {
+        synchronized (out) {
+            try {
+                LoadProtocol.writeReport(out, type, report);
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to send report to coordinator", e);
+            }
+        }
+    }
+
+    private static void fail(DataOutputStream out, String message) {
+        synchronized (out) {
+            try {
+                LoadProtocol.writeFailure(out, message);
+                out.flush();
+            } catch (IOException e) {
+                log.warn("Failed to report failure to coordinator", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.fakeRestApi.load;
+
+import com.fakeRestApi.models.Author;
+import com.fakeRestApi.models.Book;
+import com.fakeRestApi.utils.ResponseParser;
+import com.fakeRestApi.utils.TestDataManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Journey mixes modelled on how the Books and Authors endpoints are used: mostly reads, with an occasional
+ * full write cycle that cleans up after itself.
+ */
+public final class Scenarios {
+
+    /** Private constructor to prevent instantiation */
+    private Scenarios() {}
+
+    /**
+     * Returns a mix by name, for runs configured outside of code such as distributed workers.
+     * @param name mix name; {@code booksAndAuthors} is the only mix so far
+     * @param thinkTime mean pause after each step
+     * @return journeys of the mix
+     */
+    public static List<Journey> named(String name, Duration thinkTime) {
+        return switch (name) {
+            case "booksAndAuthors" -> booksAndAuthors(thinkTime);
+            default -> throw new IllegalArgumentException("Unknown load scenario '" + name + "'; expected booksAndAuthors");
+        };
+    }
+
+    /**
+     * Returns the default mix: browsing books (weight 6), looking up the authors of a book (weight 3) and creating
+     * a book with an author, then deleting it (weight 1).
+     * @param thinkTime mean pause after each step
+     * @return journeys of the mix
+     */
+    public static List<Journey> booksAndAuthors(Duration thinkTime) {
+        return List.of(browseBooks(6, thinkTime), lookUpAuthors(3, thinkTime), bookWithAuthor(1, thinkTime));
+    }
+
+    /**
+     * GET /Books, then GET /Books/{id} of one of the listed books.
+     * @param weight relative frequency in the mix
+     * @param thinkTime mean pause after each step
+     * @return journey
+     */
+    public static Journey browseBooks(int weight, Duration thinkTime) {
+        return Journey.named("browse books").weight(weight).thinkTime(thinkTime)
+                .step("getBooks", ctx -> {
+                    ResponseParser<Book> books = ctx.books().getBooks();
+                    ctx.put("ids", books.ids());
+                    return books;
+                })
+                .step("getBookById", ctx -> ctx.books().getBookById(anyOf(ctx.get("ids"))))
+                .build();
+    }
+
+    /**
+     * GET /Authors, then GET /Authors/authors/books/{idBook} for the book of one of the listed authors.
+     * @param weight relative frequency in the mix
+     * @param thinkTime mean pause after each step
+     * @return journey
+     */
+    public static Journey lookUpAuthors(int weight, Duration thinkTime) {
+        return Journey.named("look up authors").weight(weight).thinkTime(thinkTime)
+                .step("getAuthors", ctx -> {
+                    ResponseParser<Author> authors = ctx.authors().getAuthors();
+                    ctx.put("idBooks", authors.ints("idBook"));
+                    return authors;
+                })
+                .step("getAuthorsByBookId", ctx -> ctx.authors().getAuthorsByBookId(anyOf(ctx.get("idBooks"))))
+                .build();
+    }
+
+    /**
+     * POST /Books, POST /Authors for that book, GET /Authors/authors/books/{idBook}, then DELETE /Books/{id}
+     * as a finally step, so the book is deleted even when an earlier step failed.
+     * @param weight relative frequency in the mix
+     * @param thinkTime mean pause after each step
+     * @return journey
+     */
+    public static Journey bookWithAuthor(int weight, Duration thinkTime) {
+        return Journey.named("book with author").weight(weight).thinkTime(thinkTime)
+                .step("createBook", ctx -> ctx.books().createBook(ctx.put("book", TestDataManager.bookWithValidAllFields())))
+                .step("createAuthor", ctx -> ctx.authors().createAuthor(TestDataManager.generateValidAuthorBuilder()
+                        .idBook(ctx.<Book>get("book").id())
+                        .build()))
+                .step("getAuthorsByBookId", ctx -> ctx.authors().getAuthorsByBookId(ctx.<Book>get("book").id()))
+                .finallyStep("deleteBook", ctx -> ctx.books().deleteBook(ctx.<Book>get("book").id()))
+                .build();
+    }
+
+    private static int anyOf(int[] ids) {
+        if (ids.length == 0) throw new IllegalStateException("The listing step returned no ids");
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
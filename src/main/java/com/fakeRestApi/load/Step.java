@@ -0,0 +1,18 @@
+package com.fakeRestApi.load;
+
+import com.fakeRestApi.utils.ResponseParser;
+
+/**
+ * One call of a {@link Journey}, usually a single {@code BooksApi} / {@code AuthorsApi} method.
+ * A step fails when it throws or its response status is not 2xx; the rest of the journey is then skipped.
+ */
+@FunctionalInterface
+public interface Step {
+
+    /**
+     * Executes the step.
+     * @param context state of the current journey iteration and the API clients
+     * @return response of the call
+     */
+    ResponseParser<?> execute(JourneyContext context);
+}
@@ -0,0 +1,192 @@
+package com.fakeRestApi.metrics;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.fakeRestApi.metrics.RequestTimings.millis;
+
+/**
+ * Process-wide registry aggregating request timings per endpoint.
+ * Endpoints are keyed by HTTP method and path template, so all calls to {@code GET /Books/{id}} share one entry.
+ * Calls are also aggregated per target base URL, so that calls to a local stand-in can be told apart from calls
+ * to the configured API.
+ */
+public final class EndpointMetrics {
+
+    private static final Map<String, Stats> STATS = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, Stats>> TARGETS = new ConcurrentHashMap<>();
+
+    /** Private constructor to prevent instantiation */
+    private EndpointMetrics() {}
+
+    /**
+     * Builds the registry key for an endpoint.
+     * @param method HTTP method
+     * @param pathTemplate path template with unresolved parameters
+     * @return endpoint key
+     */
+    public static String key(String method, String pathTemplate) {
+        return method.toUpperCase() + " " + pathTemplate;
+    }
+
+    /**
+     * Normalizes a base URL into the target key calls are aggregated under.
+     * @param baseUrl base URL of the API
+     * @return base URL without trailing slashes
+     */
+    public static String target(String baseUrl) {
+        String target = baseUrl == null ? "" : baseUrl.trim();
+        while (target.endsWith("/")) target = target.substring(0, target.length() - 1);
+        return target;
+    }
+
+    /**
+     * Adds a completed exchange to the aggregate of its endpoint, overall and for its target.
+     * @param target base URL the request was sent to
+     * @param endpoint endpoint key
+     * @param timings exchange timings
+     */
+    public static void record(String target, String endpoint, RequestTimings timings) {
+        STATS.computeIfAbsent(endpoint, Stats::new).add(timings);
+        TARGETS.computeIfAbsent(target(target), key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(endpoint, Stats::new)
+                .add(timings);
+    }
+
+    /**
+     * Returns the latency histogram of an endpoint.
+     * @param endpoint endpoint key
+     * @return histogram of total call times, empty if the endpoint was not called yet
+     */
+    public static LatencyHistogram histogram(String endpoint) {
+        Stats stats = STATS.get(endpoint);
+        return stats == null ? new LatencyHistogram() : stats.histogram;
+    }
+
+    /**
+     * Returns the latency histogram of an endpoint on one target.
+     * @param target base URL of the target
+     * @param endpoint endpoint key
+     * @return histogram of total call times, empty if the endpoint was not called on the target yet
+     */
+    public static LatencyHistogram histogram(String target, String endpoint) {
+        Stats stats = TARGETS.getOrDefault(target(target), Map.of()).get(endpoint);
+        return stats == null ? new LatencyHistogram() : stats.histogram;
+    }
+
+    /**
+     * Returns summaries of all endpoints recorded so far, sorted by endpoint key.
+     * @return list of endpoint summaries
+     */
+    public static List<EndpointSummary> snapshot() {
+        return STATS.values().stream()
+                .map(Stats::summary)
+                .sorted(Comparator.comparing(EndpointSummary::endpoint))
+                .toList();
+    }
+
+    /**
+     * Returns the targets called so far.
+     * @return target keys as produced by {@link #target(String)}
+     */
+    public static Set<String> targets() {
+        return Set.copyOf(TARGETS.keySet());
+    }
+
+    /**
+     * Returns summaries of the endpoints called on one target, sorted by endpoint key.
+     * @param target base URL of the target
+     * @return list of endpoint summaries, empty if the target was not called
+     */
+    public static List<EndpointSummary> snapshot(String target) {
+        return TARGETS.getOrDefault(target(target), Map.of()).values().stream()
+                .map(Stats::summary)
+                .sorted(Comparator.comparing(EndpointSummary::endpoint))
+                .toList();
+    }
+
+    /**
+     * Renders all endpoint summaries as a plain-text table.
+     * @return formatted report
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder(String.format("%-36s %6s %8s %8s %8s %8s %9s %8s %8s %8s %8s %10s %10s %10s %10s %6s%n",
+                "endpoint", "calls", "dns", "connect", "tls", "ttfb", "transfer", "avg", "p95", "p99", "max",
+                "sent", "received", "body wire", "decoded", "ratio"));
+        for (EndpointSummary s : snapshot()) {
+            report.append(String.format("%-36s %6d %8.1f %8.1f %8.1f %8.1f %9.1f %8.1f %8.1f %8.1f %8.1f %10d %10d %10d %10d %6.2f%n",
+                    s.endpoint(), s.count(), s.dnsMs(), s.connectMs(), s.tlsMs(), s.ttfbMs(),
+                    s.transferMs(), s.totalMs(), s.p95Ms(), s.p99Ms(), s.maxTotalMs(), s.requestBytes(), s.responseBytes(),
+                    s.wireBodyBytes(), s.decodedBodyBytes(), s.compressionRatio()));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Clears all recorded data.
+     */
+    public static void reset() {
+        STATS.clear();
+        TARGETS.clear();
+    }
+
+    private static final class Stats {
+        private final String endpoint;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private long firstAt;
+        private long lastAt;
+        private long count;
+        private long dns;
+        private long connect;
+        private long tls;
+        private long ttfb;
+        private long transfer;
+        private long total;
+        private long maxTotal;
+        private long requestBytes;
+        private long responseBytes;
+        private long wireBodyBytes;
+        private long decodedBodyBytes;
+
+        private Stats(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        private synchronized void add(RequestTimings t) {
+            long now = System.nanoTime();
+            if (count == 0) firstAt = now - t.totalNanos();
+            lastAt = now;
+            histogram.recordNanos(t.totalNanos());
+            count++;
+            dns += t.dnsNanos();
+            connect += t.connectNanos();
+            tls += t.tlsNanos();
+            ttfb += t.ttfbNanos();
+            transfer += t.transferNanos();
+            total += t.totalNanos();
+            maxTotal = Math.max(maxTotal, t.totalNanos());
+            requestBytes += t.requestBytes();
+            responseBytes += t.responseBytes();
+            wireBodyBytes += t.wireBodyBytes();
+            decodedBodyBytes += t.decodedBodyBytes();
+        }
+
+        private synchronized EndpointSummary summary() {
+            long n = Math.max(count, 1);
+            return new EndpointSummary(endpoint, count,
+                    millis(dns / n), millis(connect / n), millis(tls / n), millis(ttfb / n),
+                    millis(transfer / n), millis(total / n), millis(maxTotal),
+                    ms(histogram.percentile(50)), ms(histogram.percentile(95)), ms(histogram.percentile(99)),
+                    count / Math.max((lastAt - firstAt) / 1_000_000_000.0, 1e-3),
+                    requestBytes, responseBytes, wireBodyBytes, decodedBodyBytes);
+        }
+
+        private static double ms(Duration duration) {
+            return millis(duration.toNanos());
+        }
+    }
+}
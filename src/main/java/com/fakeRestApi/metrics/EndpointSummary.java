@@ -0,0 +1,52 @@
+package com.fakeRestApi.metrics;
+
+/**
+ * Aggregated phase timings of all calls made to one endpoint.
+ * Durations are averages in milliseconds unless stated otherwise.
+ *
+ * @param endpoint      endpoint key, e.g. {@code GET /Books/{id}}
+ * @param count         number of recorded calls
+ * @param dnsMs         average DNS resolution time
+ * @param connectMs     average TCP connect time
+ * @param tlsMs         average TLS handshake time
+ * @param ttfbMs        average time to first byte
+ * @param transferMs    average body transfer time
+ * @param totalMs       average total time
+ * @param maxTotalMs    slowest total time
+ * @param p50Ms         median total time
+ * @param p95Ms         95th percentile of total time
+ * @param p99Ms         99th percentile of total time
+ * @param throughput    calls per second between the first and the last recorded call
+ * @param requestBytes  total bytes sent
+ * @param responseBytes total bytes received
+ * @param wireBodyBytes total response body bytes as transferred
+ * @param decodedBodyBytes total response body bytes after decompression
+ */
+public record EndpointSummary(
+        String endpoint,
+        long count,
+        double dnsMs,
+        double connectMs,
+        double tlsMs,
+        double ttfbMs,
+        double transferMs,
+        double totalMs,
+        double maxTotalMs,
+        double p50Ms,
+        double p95Ms,
+        double p99Ms,
+        double throughput,
+        long requestBytes,
+        long responseBytes,
+        long wireBodyBytes,
+        long decodedBodyBytes
+) {
+
+    /**
+     * Returns how much smaller the transferred bodies were than the decoded ones.
+     * @return wire-to-decoded size ratio, 1.0 if nothing was compressed or no body was received
+     */
+    public double compressionRatio() {
+        return decodedBodyBytes == 0 ? 1.0 : (double) wireBodyBytes / decodedBodyBytes;
+    }
+}
@@ -0,0 +1,201 @@
+package com.fakeRestApi.metrics;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe, mergeable latency histogram with microsecond resolution.
+ * Buckets are log-linear: every power-of-two range is split into 64 equal sub-buckets,
+ * which keeps the relative error of reported percentiles below 1.6% with a fixed memory footprint.
+ * Histograms can be written to a stream and read back, so histograms of several processes can be merged.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = SUB_BUCKETS * (Long.SIZE - SUB_BUCKET_BITS + 1);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong minMicros = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Records a single latency value.
+     * @param nanos latency in nanoseconds
+     */
+    public void recordNanos(long nanos) {
+        recordMicros(Math.max(0, nanos / 1_000), 1);
+    }
+
+    /**
+     * Records a single latency value.
+     * @param latency latency duration
+     */
+    public void record(Duration latency) {
+        recordNanos(latency.toNanos());
+    }
+
+    private void recordMicros(long micros, long count) {
+        counts.addAndGet(indexOf(micros), count);
+        totalCount.addAndGet(count);
+        totalMicros.addAndGet(micros * count);
+        minMicros.accumulateAndGet(micros, Math::min);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Adds all values recorded by another histogram to this one.
+     * @param other histogram to merge
+     * @return this histogram
+     */
+    public LatencyHistogram merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = other.counts.get(i);
+            if (count > 0) counts.addAndGet(i, count);
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        totalMicros.addAndGet(other.totalMicros.get());
+        minMicros.accumulateAndGet(other.minMicros.get(), Math::min);
+        maxMicros.accumulateAndGet(other.maxMicros.get(), Math::max);
+        return this;
+    }
+
+    /**
+     * Writes the recorded values in a compact form: only non-empty buckets are written.
+     * @param out stream to write to
+     * @throws IOException if writing fails
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        int buckets = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts.get(i) > 0) buckets++;
+        }
+        out.writeLong(totalCount.get());
+        out.writeLong(totalMicros.get());
+        out.writeLong(minMicros.get());
+        out.writeLong(maxMicros.get());
+        out.writeInt(buckets);
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = counts.get(i);
+            if (count == 0) continue;
+            out.writeShort(i);
+            out.writeLong(count);
+        }
+    }
+
+    /**
+     * Reads a histogram written by {@link #writeTo(DataOutput)}.
+     * @param in stream to read from
+     * @return histogram with the written values
+     * @throws IOException if reading fails or the data is not a histogram
+     */
+    public static LatencyHistogram readFrom(DataInput in) throws IOException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.totalCount.set(in.readLong());
+        histogram.totalMicros.set(in.readLong());
+        histogram.minMicros.set(in.readLong());
+        histogram.maxMicros.set(in.readLong());
+        int buckets = in.readInt();
+        for (int b = 0; b < buckets; b++) {
+            int index = in.readUnsignedShort();
+            if (index >= BUCKET_COUNT) throw new IOException("Histogram bucket out of range: " + index);
+            histogram.counts.set(index, in.readLong());
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns the number of recorded values.
+     * @return value count
+     */
+    public long count() {
+        return totalCount.get();
+    }
+
+    /**
+     * Returns the smallest recorded value.
+     * @return minimum latency, zero if empty
+     */
+    public Duration min() {
+        return count() == 0 ? Duration.ZERO : Duration.ofNanos(minMicros.get() * 1_000);
+    }
+
+    /**
+     * Returns the largest recorded value.
+     * @return maximum latency, zero if empty
+     */
+    public Duration max() {
+        return Duration.ofNanos(maxMicros.get() * 1_000);
+    }
+
+    /**
+     * Returns the arithmetic mean of recorded values.
+     * @return mean latency, zero if empty
+     */
+    public Duration mean() {
+        long count = count();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalMicros.get() * 1_000 / count);
+    }
+
+    /**
+     * Returns the value below which the given share of recorded values fall.
+     * @param percentile percentile in the range (0, 100]
+     * @return latency at the percentile, zero if empty
+     */
+    public Duration percentile(double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be in (0, 100]: " + percentile);
+        }
+        long count = count();
+        if (count == 0) return Duration.ZERO;
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                long micros = Math.min(Math.max(midpointOf(i), minMicros.get()), maxMicros.get());
+                return Duration.ofNanos(micros * 1_000);
+            }
+        }
+        return max();
+    }
+
+    /**
+     * Returns a one-line summary of the distribution in milliseconds.
+     * @return formatted summary
+     */
+    public String summary() {
+        return String.format("count=%d min=%.1f p50=%.1f p90=%.1f p95=%.1f p99=%.1f max=%.1f mean=%.1f",
+                count(), ms(min()), ms(percentile(50)), ms(percentile(90)), ms(percentile(95)),
+                ms(percentile(99)), ms(max()), ms(mean()));
+    }
+
+    private static double ms(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    static int indexOf(long micros) {
+        if (micros < 2L * SUB_BUCKETS) return (int) micros;
+        int exponent = (Long.SIZE - 1 - Long.numberOfLeadingZeros(micros)) - SUB_BUCKET_BITS;
+        return exponent * SUB_BUCKETS + (int) (micros >>> exponent);
+    }
+
+    static long lowerBoundOf(int index) {
+        if (index < 2 * SUB_BUCKETS) return index;
+        int exponent = index / SUB_BUCKETS - 1;
+        return (long) (index - exponent * SUB_BUCKETS) << exponent;
+    }
+
+    private static long midpointOf(int index) {
+        if (index < 2 * SUB_BUCKETS) return index;
+        int exponent = index / SUB_BUCKETS - 1;
+        return lowerBoundOf(index) + ((1L << exponent) >> 1);
+    }
+}
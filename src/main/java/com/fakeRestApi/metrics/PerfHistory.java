@@ -0,0 +1,107 @@
+package com.fakeRestApi.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Append-only store of per-endpoint performance summaries, one CSV line per endpoint, target and test JVM of a run.
+ * Lines are never rewritten, so concurrent readers always see complete previous runs.
+ * Forked test JVMs of one build share the run id and each append their own lines.
+ */
+public final class PerfHistory {
+
+    /** Default history location, relative to the project directory */
+    public static final String DEFAULT_DIR = "build/perf-history";
+    public static final String FILE_NAME = "endpoints.csv";
+
+    private static final String HEADER = "#runId,timestamp,endpoint,count,meanMs,p50Ms,p95Ms,p99Ms,throughput,target";
+
+    /**
+     * One endpoint summary of one run.
+     *
+     * @param runId      identifier shared by all lines of a run
+     * @param timestamp  run completion time
+     * @param endpoint   endpoint key
+     * @param count      number of calls
+     * @param meanMs     average latency
+     * @param p50Ms      median latency
+     * @param p95Ms      95th percentile latency
+     * @param p99Ms      99th percentile latency
+     * @param throughput calls per second; informational only, as it depends on which tests ran
+     * @param target     base URL the calls were sent to, empty in lines written before targets were recorded
+     */
+    public record Entry(String runId, Instant timestamp, String endpoint, long count,
+                        double meanMs, double p50Ms, double p95Ms, double p99Ms, double throughput, String target) {
+
+        private String toLine() {
+            return String.format(Locale.ROOT, "%s,%s,%s,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%s",
+                    runId, timestamp, endpoint, count, meanMs, p50Ms, p95Ms, p99Ms, throughput, target);
+        }
+
+        private static Entry parse(String line) {
+            String[] f = line.split(",");
+            return new Entry(f[0], Instant.parse(f[1]), f[2], Long.parseLong(f[3]),
+                    Double.parseDouble(f[4]), Double.parseDouble(f[5]), Double.parseDouble(f[6]),
+                    Double.parseDouble(f[7]), Double.parseDouble(f[8]), f.length > 9 ? f[9] : "");
+        }
+    }
+
+    /** Private constructor to prevent instantiation */
+    private PerfHistory() {}
+
+    /**
+     * Returns the history file, honoring the {@code perf.history.dir} system property.
+     * @return path of the history file
+     */
+    public static Path defaultFile() {
+        return Path.of(System.getProperty("perf.history.dir", DEFAULT_DIR), FILE_NAME);
+    }
+
+    /**
+     * Appends the summaries of one run to the history file, creating it if necessary.
+     * @param file history file
+     * @param runId run identifier
+     * @param target base URL the summarized calls were sent to
+     * @param timestamp run completion time
+     * @param summaries endpoint summaries of the run
+     */
+    public static void append(Path file, String runId, String target, Instant timestamp, List<EndpointSummary> summaries) {
+        if (summaries.isEmpty()) return;
+        List<String> lines = new ArrayList<>();
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            if (Files.notExists(file)) lines.add(HEADER);
+            for (EndpointSummary s : summaries) {
+                lines.add(new Entry(runId, timestamp, s.endpoint(), s.count(), s.totalMs(),
+                        s.p50Ms(), s.p95Ms(), s.p99Ms(), s.throughput(), target).toLine());
+            }
+            Files.write(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append performance history to " + file, e);
+        }
+    }
+
+    /**
+     * Reads all entries of the history file in the order they were written.
+     * @param file history file
+     * @return list of entries, empty if the file does not exist
+     */
+    public static List<Entry> read(Path file) {
+        if (Files.notExists(file)) return List.of();
+        try (var lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            return lines.filter(line -> !line.isBlank() && !line.startsWith("#"))
+                    .map(Entry::parse)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read performance history from " + file, e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.fakeRestApi.metrics;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Compares the latest run in the performance history against a rolling baseline of previous runs.
+ * A metric regresses when it is worse than the baseline mean by more than {@code z} standard deviations
+ * and by more than the minimum relative change; both conditions must hold to tolerate noisy endpoints.
+ * Endpoints are compared per target base URL, and lines of the forked JVMs of one run are merged first.
+ * Only latency is checked: throughput depends on which and how many tests ran, so sharded or filtered runs
+ * would be flagged. Exits with status 1 if any endpoint regressed.
+ *
+ * <p>Configured through system properties:
+ * {@code perf.history.dir}, {@code perf.regression.window} (baseline runs, default 10),
+ * {@code perf.regression.minRuns} (default 3), {@code perf.regression.z} (default 3.0),
+ * {@code perf.regression.minChange} (relative, default 0.2) and {@code perf.regression.minCalls} (default 5).
+ */
+public final class PerfRegressionCheck {
+
+    private final int window;
+    private final int minRuns;
+    private final double z;
+    private final double minChange;
+    private final long minCalls;
+
+    /**
+     * Outcome of checking the latest run.
+     *
+     * @param run          id of the latest run, null if the history is empty
+     * @param baselineRuns number of previous runs in the baseline window
+     * @param insufficient endpoints skipped for lack of baseline runs, with the number of runs found
+     * @param regressions  human-readable descriptions of regressions, empty if none
+     */
+    public record Evaluation(String run, int baselineRuns, List<String> insufficient, List<String> regressions) {}
+
+    /**
+     * @param window maximum number of previous runs in the baseline
+     * @param minRuns baseline runs an endpoint needs before it is checked
+     * @param z standard deviations above the baseline mean a metric may reach
+     * @param minChange relative change over the baseline mean a metric may reach
+     * @param minCalls calls an endpoint needs in a run for the run to count
+     */
+    public PerfRegressionCheck(int window, int minRuns, double z, double minChange, long minCalls) {
+        this.window = window;
+        this.minRuns = minRuns;
+        this.z = z;
+        this.minChange = minChange;
+        this.minCalls = minCalls;
+    }
+
+    public static void main(String[] args) {
+        PerfRegressionCheck check = new PerfRegressionCheck(
+                Integer.getInteger("perf.regression.window", 10),
+                Integer.getInteger("perf.regression.minRuns", 3),
+                Double.parseDouble(System.getProperty("perf.regression.z", "3.0")),
+                Double.parseDouble(System.getProperty("perf.regression.minChange", "0.2")),
+                Long.getLong("perf.regression.minCalls", 5));
+
+        Path file = PerfHistory.defaultFile();
+        Evaluation evaluation = check.evaluate(PerfHistory.read(file));
+        if (evaluation.run() == null) {
+            System.out.println("No performance history found.");
+            return;
+        }
+        System.out.printf("Checking run %s against %d baseline run(s)%n", evaluation.run(), evaluation.baselineRuns());
+        evaluation.insufficient().forEach(endpoint -> System.out.println("  insufficient history: " + endpoint));
+        if (!evaluation.regressions().isEmpty()) {
+            System.out.println("Performance regressions detected against " + file + ":");
+            evaluation.regressions().forEach(r -> System.out.println("  " + r));
+            System.exit(1);
+        }
+        System.out.println("No performance regressions detected.");
+    }
+
+    /**
+     * Evaluates the latest run of the history.
+     * @param history all history entries in write order
+     * @return evaluation of the latest run
+     */
+    public Evaluation evaluate(List<PerfHistory.Entry> history) {
+        Map<String, Map<String, PerfHistory.Entry>> runs = new LinkedHashMap<>();
+        for (PerfHistory.Entry entry : history) {
+            runs.computeIfAbsent(entry.runId(), id -> new LinkedHashMap<>())
+                    .merge(key(entry), entry, PerfRegressionCheck::merge);
+        }
+        List<String> runIds = new ArrayList<>(runs.keySet());
+        if (runIds.isEmpty()) return new Evaluation(null, 0, List.of(), List.of());
+
+        String currentRun = runIds.getLast();
+        List<String> baselineRuns = runIds.subList(Math.max(0, runIds.size() - 1 - window), runIds.size() - 1);
+
+        List<String> insufficient = new ArrayList<>();
+        List<String> regressions = new ArrayList<>();
+        for (PerfHistory.Entry current : runs.get(currentRun).values()) {
+            if (current.count() < minCalls) continue;
+            List<PerfHistory.Entry> baseline = baselineRuns.stream()
+                    .map(id -> runs.get(id).get(key(current)))
+                    .filter(e -> e != null && e.count() >= minCalls)
+                    .toList();
+            if (baseline.size() < minRuns) {
+                insufficient.add(String.format("%s (%d run(s))", key(current), baseline.size()));
+                continue;
+            }
+            checkHigherIsWorse(regressions, current, baseline, "p95Ms", PerfHistory.Entry::p95Ms);
+            checkHigherIsWorse(regressions, current, baseline, "p99Ms", PerfHistory.Entry::p99Ms);
+        }
+        return new Evaluation(currentRun, baselineRuns.size(), insufficient, regressions);
+    }
+
+    private static String key(PerfHistory.Entry entry) {
+        return entry.target().isEmpty() ? entry.endpoint() : entry.endpoint() + " @ " + entry.target();
+    }
+
+    /**
+     * Combines the lines of two test JVMs of the same run. Percentiles are weighted by call count, which approximates
+     * the percentile of the combined calls as long as the JVMs saw similar latencies.
+     */
+    private static PerfHistory.Entry merge(PerfHistory.Entry a, PerfHistory.Entry b) {
+        long count = a.count() + b.count();
+        double wa = count == 0 ? 0.5 : (double) a.count() / count;
+        double wb = 1 - wa;
+        return new PerfHistory.Entry(a.runId(), a.timestamp().isAfter(b.timestamp()) ? a.timestamp() : b.timestamp(),
+                a.endpoint(), count,
+                a.meanMs() * wa + b.meanMs() * wb,
+                a.p50Ms() * wa + b.p50Ms() * wb,
+                a.p95Ms() * wa + b.p95Ms() * wb,
+                a.p99Ms() * wa + b.p99Ms() * wb,
+                a.throughput() + b.throughput(),
+                a.target());
+    }
+
+    private void checkHigherIsWorse(List<String> regressions, PerfHistory.Entry current, List<PerfHistory.Entry> baseline,
+                                    String metric, ToDoubleFunction<PerfHistory.Entry> value) {
+        double[] stats = meanAndStdDev(baseline, value);
+        double limit = Math.max(stats[0] + z * stats[1], stats[0] * (1 + minChange));
+        double actual = value.applyAsDouble(current);
+        if (actual > limit) {
+            regressions.add(String.format("%s %s=%.1f exceeds baseline %.1f+/-%.1f (limit %.1f)",
+                    key(current), metric, actual, stats[0], stats[1], limit));
+        }
+    }
+
+    private static double[] meanAndStdDev(List<PerfHistory.Entry> entries, ToDoubleFunction<PerfHistory.Entry> value) {
+        double mean = entries.stream().mapToDouble(value).average().orElse(0);
+        double variance = entries.stream()
+                .mapToDouble(e -> Math.pow(value.applyAsDouble(e) - mean, 2))
+                .sum() / Math.max(entries.size() - 1, 1);
+        return new double[]{mean, Math.sqrt(variance)};
+    }
+}
@@ -0,0 +1,163 @@
+package com.fakeRestApi.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Thread-bound collector of phase marks for the HTTP exchange currently executed by the calling thread.
+ * The HTTP client hooks report phases as they happen; the outermost caller opens and closes the recording.
+ */
+public final class RequestTimingRecorder {
+
+    private static final ThreadLocal<Phases> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<RequestTimings> LAST = new ThreadLocal<>();
+
+    /** Private constructor to prevent instantiation */
+    private RequestTimingRecorder() {}
+
+    /**
+     * Starts a new recording for the calling thread, discarding any unfinished one.
+     */
+    public static void begin() {
+        CURRENT.set(new Phases(System.nanoTime()));
+    }
+
+    /**
+     * Adds time spent resolving a host name.
+     * @param nanos elapsed nanoseconds
+     */
+    public static void addDns(long nanos) {
+        Phases phases = CURRENT.get();
+        if (phases != null) phases.dns += nanos;
+    }
+
+    /**
+     * Adds time spent establishing a TCP connection.
+     * @param nanos elapsed nanoseconds
+     */
+    public static void addConnect(long nanos) {
+        Phases phases = CURRENT.get();
+        if (phases != null) phases.connect += nanos;
+    }
+
+    /**
+     * Adds time spent in the TLS handshake.
+     * @param nanos elapsed nanoseconds
+     */
+    public static void addTls(long nanos) {
+        Phases phases = CURRENT.get();
+        if (phases != null) phases.tls += nanos;
+    }
+
+    /**
+     * Marks the moment the request is handed to the connection and binds the connection byte counters.
+     * @param sentBytes cumulative bytes sent over the connection
+     * @param receivedBytes cumulative bytes received over the connection
+     */
+    public static void markRequestSent(LongSupplier sentBytes, LongSupplier receivedBytes) {
+        Phases phases = CURRENT.get();
+        if (phases == null) return;
+        phases.requestSentAt = System.nanoTime();
+        phases.sentCounter = sentBytes;
+        phases.receivedCounter = receivedBytes;
+        phases.sentBaseline = sentBytes.getAsLong();
+        phases.receivedBaseline = receivedBytes.getAsLong();
+    }
+
+    /**
+     * Marks the moment the response headers have been received.
+     */
+    public static void markFirstByte() {
+        Phases phases = CURRENT.get();
+        if (phases != null && phases.firstByteAt == 0) phases.firstByteAt = System.nanoTime();
+    }
+
+    /**
+     * Binds the counters of the response body stream, read while the body is consumed.
+     * @param contentEncoding content coding of the body
+     * @param wireBytes cumulative body bytes read from the connection
+     * @param decodedBytes cumulative body bytes after decompression
+     */
+    public static void markResponseBody(String contentEncoding, LongSupplier wireBytes, LongSupplier decodedBytes) {
+        Phases phases = CURRENT.get();
+        if (phases == null) return;
+        phases.contentEncoding = contentEncoding;
+        phases.wireBodyCounter = wireBytes;
+        phases.decodedBodyCounter = decodedBytes;
+    }
+
+    /**
+     * Marks the moment the response body has been read and takes the connection byte counters,
+     * before the connection goes back to the pool and may carry the next exchange.
+     */
+    public static void markResponseReceived() {
+        Phases phases = CURRENT.get();
+        if (phases != null) phases.takeConnectionCounters();
+    }
+
+    /**
+     * Completes the current recording and remembers it as the last one of this thread.
+     * Byte counts fall back to the given sizes when no connection counters were bound.
+     * @param fallbackRequestBytes request size to report without connection counters
+     * @param fallbackResponseBytes response size to report without connection counters
+     * @return completed timings, or {@link RequestTimings#EMPTY} if no recording was open
+     */
+    public static RequestTimings end(long fallbackRequestBytes, long fallbackResponseBytes) {
+        Phases phases = CURRENT.get();
+        CURRENT.remove();
+        RequestTimings timings = phases == null
+                ? RequestTimings.EMPTY
+                : phases.complete(System.nanoTime(), fallbackRequestBytes, fallbackResponseBytes);
+        LAST.set(timings);
+        return timings;
+    }
+
+    /**
+     * Returns and clears the last completed timings of the calling thread.
+     * @return last timings or {@link RequestTimings#EMPTY}
+     */
+    public static RequestTimings takeLast() {
+        RequestTimings timings = LAST.get();
+        LAST.remove();
+        return timings == null ? RequestTimings.EMPTY : timings;
+    }
+
+    private static final class Phases {
+        private final long startedAt;
+        private long dns;
+        private long connect;
+        private long tls;
+        private long requestSentAt;
+        private long firstByteAt;
+        private LongSupplier sentCounter;
+        private LongSupplier receivedCounter;
+        private long sentBaseline;
+        private long receivedBaseline;
+        private String contentEncoding = RequestTimings.IDENTITY;
+        private LongSupplier wireBodyCounter;
+        private LongSupplier decodedBodyCounter;
+
+        private Phases(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        private void takeConnectionCounters() {
+            if (sentCounter == null) return;
+            long sent = sentCounter.getAsLong();
+            long received = receivedCounter.getAsLong();
+            sentCounter = () -> sent;
+            receivedCounter = () -> received;
+        }
+
+        private RequestTimings complete(long endedAt, long fallbackRequestBytes, long fallbackResponseBytes) {
+            long sentAt = requestSentAt == 0 ? startedAt : requestSentAt;
+            long headersAt = firstByteAt == 0 ? endedAt : firstByteAt;
+            long sent = sentCounter == null ? fallbackRequestBytes : sentCounter.getAsLong() - sentBaseline;
+            long received = receivedCounter == null ? fallbackResponseBytes : receivedCounter.getAsLong() - receivedBaseline;
+            long wireBody = wireBodyCounter == null ? 0 : wireBodyCounter.getAsLong();
+            long decodedBody = decodedBodyCounter == null ? 0 : decodedBodyCounter.getAsLong();
+            return new RequestTimings(dns, connect, tls,
+                    headersAt - sentAt, endedAt - headersAt, endedAt - startedAt,
+                    sent, received, wireBody, decodedBody, contentEncoding);
+        }
+    }
+}
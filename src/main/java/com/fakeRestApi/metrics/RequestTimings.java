@@ -0,0 +1,84 @@
+package com.fakeRestApi.metrics;
+
+import java.time.Duration;
+
+/**
+ * Phase breakdown of a single HTTP exchange.
+ * All durations are in nanoseconds; phases that did not happen (e.g. DNS or TLS on a reused connection) are zero.
+ *
+ * @param dnsNanos      host name resolution
+ * @param connectNanos  TCP connect
+ * @param tlsNanos      TLS handshake including hostname verification
+ * @param ttfbNanos     from request sent to response headers received
+ * @param transferNanos from response headers received to body fully consumed
+ * @param totalNanos    whole exchange as seen by the client
+ * @param requestBytes  bytes written to the connection (headers and body)
+ * @param responseBytes bytes read from the connection (headers and body)
+ * @param wireBodyBytes response body bytes as transferred, before decompression
+ * @param decodedBodyBytes response body bytes after decompression
+ * @param contentEncoding response content coding, {@code identity} if the body was not compressed
+ */
+public record RequestTimings(
+        long dnsNanos,
+        long connectNanos,
+        long tlsNanos,
+        long ttfbNanos,
+        long transferNanos,
+        long totalNanos,
+        long requestBytes,
+        long responseBytes,
+        long wireBodyBytes,
+        long decodedBodyBytes,
+        String contentEncoding
+) {
+
+    /** Content coding of an uncompressed body */
+    public static final String IDENTITY = "identity";
+
+    /** Timings for a response that was not produced by an instrumented call */
+    public static final RequestTimings EMPTY = new RequestTimings(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, IDENTITY);
+
+    /**
+     * Returns the total duration of the exchange.
+     * @return total duration
+     */
+    public Duration total() {
+        return Duration.ofNanos(totalNanos);
+    }
+
+    /**
+     * Returns the time to first byte.
+     * @return time to first byte
+     */
+    public Duration timeToFirstByte() {
+        return Duration.ofNanos(ttfbNanos);
+    }
+
+    /**
+     * Checks whether the exchange was served over an already open connection.
+     * @return true if no connect phase was recorded
+     */
+    public boolean reusedConnection() {
+        return connectNanos == 0;
+    }
+
+    /**
+     * Checks whether the response body was transferred with a compressing content coding.
+     * @return true if the content coding is not identity
+     */
+    public boolean compressed() {
+        return !IDENTITY.equals(contentEncoding);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("dns=%.1fms connect=%.1fms tls=%.1fms ttfb=%.1fms transfer=%.1fms total=%.1fms sent=%dB received=%dB body=%dB/%dB(%s)",
+                millis(dnsNanos), millis(connectNanos), millis(tlsNanos), millis(ttfbNanos),
+                millis(transferNanos), millis(totalNanos), requestBytes, responseBytes,
+                wireBodyBytes, decodedBodyBytes, contentEncoding);
+    }
+
+    static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -1,9 +1,11 @@
 package com.fakeRestApi.models;
 
+import com.fakeRestApi.codegen.GenerateJsonCodec;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 
+@GenerateJsonCodec
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonIgnoreProperties(ignoreUnknown = true)
 @Builder(toBuilder = true)
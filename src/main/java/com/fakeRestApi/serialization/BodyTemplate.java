@@ -0,0 +1,85 @@
+package com.fakeRestApi.serialization;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Pre-serialized JSON object body with a fixed-width {@code id} slot that is patched without re-serializing.
+ * The id is written right-aligned into the slot and padded with leading whitespace, which keeps the body valid JSON.
+ */
+public final class BodyTemplate {
+
+    private static final byte[] ID_PREFIX = "{\"id\":".getBytes(StandardCharsets.US_ASCII);
+
+    /** Wide enough for any int including the sign */
+    private static final int SLOT_WIDTH = 11;
+
+    private final byte[] template;
+
+    private BodyTemplate(byte[] template) {
+        this.template = template;
+    }
+
+    /**
+     * Creates a template from a value serialized without its id.
+     * @param codec codec of the value type
+     * @param valueWithoutId value whose {@code id} is null, so the codec omits it
+     * @param <T> model type
+     * @return body template with the id slot first
+     */
+    public static <T> BodyTemplate of(JsonCodec<T> codec, T valueWithoutId) {
+        byte[] rest = JsonCodecs.writeBytes(codec, valueWithoutId);
+        if (rest.length < 2 || rest[0] != '{') {
+            throw new IllegalArgumentException("Body template requires a JSON object");
+        }
+        boolean empty = rest.length == 2;
+        byte[] template = new byte[ID_PREFIX.length + SLOT_WIDTH + (empty ? 1 : rest.length)];
+        System.arraycopy(ID_PREFIX, 0, template, 0, ID_PREFIX.length);
+        int slotEnd = ID_PREFIX.length + SLOT_WIDTH;
+        Arrays.fill(template, ID_PREFIX.length, slotEnd, (byte) ' ');
+        if (empty) {
+            template[slotEnd] = '}';
+        } else {
+            template[slotEnd] = ',';
+            System.arraycopy(rest, 1, template, slotEnd + 1, rest.length - 1);
+        }
+        patch(template, 0);
+        return new BodyTemplate(template);
+    }
+
+    /**
+     * Returns a new body with the given id; the template itself is never modified.
+     * @param id entity id
+     * @return ready-to-send JSON bytes
+     */
+    public byte[] withId(int id) {
+        byte[] body = template.clone();
+        patch(body, id);
+        return body;
+    }
+
+    /**
+     * Overwrites the id slot of a body previously created by this template.
+     * Only safe while no request is sending the body.
+     * @param body body returned by {@link #withId(int)}
+     * @param id new entity id
+     */
+    public static void patch(byte[] body, int id) {
+        int pos = ID_PREFIX.length + SLOT_WIDTH;
+        long value = Math.abs((long) id);
+        do {
+            body[--pos] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        if (id < 0) body[--pos] = '-';
+        Arrays.fill(body, ID_PREFIX.length, pos, (byte) ' ');
+    }
+
+    /**
+     * Returns the body length, identical for every id.
+     * @return body length in bytes
+     */
+    public int length() {
+        return template.length;
+    }
+}
@@ -0,0 +1,43 @@
+package com.fakeRestApi.serialization;
+
+import io.restassured.mapper.ObjectMapperDeserializationContext;
+import io.restassured.mapper.ObjectMapperSerializationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+
+/**
+ * RestAssured object mapper that serializes and deserializes types with a generated {@link JsonCodec}
+ * without reflection, and delegates every other type to the cached readers and writers of {@link JsonMappers}.
+ */
+public class CodecObjectMapper implements io.restassured.mapper.ObjectMapper {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object serialize(ObjectMapperSerializationContext context) {
+        Object value = context.getObjectToSerialize();
+        JsonCodec<Object> codec = (JsonCodec<Object>) JsonCodecs.find(value.getClass());
+        if (codec != null) return JsonCodecs.writeString(codec, value);
+        try {
+            return JsonMappers.writer(value.getClass()).writeValueAsString(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(ObjectMapperDeserializationContext context) {
+        Type type = context.getType();
+        byte[] body = context.getDataToDeserialize().asByteArray();
+        if (type instanceof Class<?> cls) {
+            JsonCodec<?> codec = JsonCodecs.find(cls);
+            if (codec != null) return JsonCodecs.read(codec, body);
+        }
+        try {
+            return JsonMappers.reader(type).readValue(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to deserialize " + type.getTypeName(), e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.fakeRestApi.serialization;
+
+import com.fakeRestApi.models.Book;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Request body that generates large JSON text fields on the fly while it is being sent.
+ * Only the small fixed parts of the document are held in memory; the generated fields are produced
+ * in blocks as the HTTP client reads the stream, so the client heap does not grow with the payload size.
+ * Sent with an unknown length, the body goes out using chunked transfer encoding.
+ */
+public final class GeneratedJsonBody extends InputStream {
+
+    private static final byte[][] WORDS = words("lorem", "ipsum", "dolor", "sit", "amet", "consectetur",
+            "adipiscing", "elit", "sed", "do", "eiusmod", "tempor", "incididunt", "ut", "labore", "et",
+            "dolore", "magna", "aliqua", "enim", "ad", "minim", "veniam", "quis", "nostrud", "exercitation");
+
+    private final InputStream content;
+    private final long length;
+    /** Written only by the reading thread; volatile so that other threads can follow the progress */
+    private volatile long produced;
+
+    private GeneratedJsonBody(List<InputStream> parts, long length) {
+        this.content = new SequenceInputStream(Collections.enumeration(parts));
+        this.length = length;
+    }
+
+    /**
+     * Creates a book body whose {@code description} and {@code excerpt} are generated text of the given sizes.
+     * @param book source of the remaining fields; its description and excerpt are ignored
+     * @param descriptionBytes size of the generated description in bytes
+     * @param excerptBytes size of the generated excerpt in bytes
+     * @param seed seed of the generated text, for reproducible payloads
+     * @return streaming body
+     */
+    public static GeneratedJsonBody book(Book book, long descriptionBytes, long excerptBytes, long seed) {
+        byte[] fixed = JsonCodecs.writeBytes(JsonCodecs.find(Book.class),
+                book.toBuilder().description(null).excerpt(null).build());
+        // Reopen the serialized object and append the generated fields before its closing brace
+        byte[] prefix = utf8(new String(fixed, 0, fixed.length - 1, StandardCharsets.UTF_8)
+                + (fixed.length > 2 ? "," : "") + "\"description\":\"");
+        byte[] middle = utf8("\",\"excerpt\":\"");
+        byte[] suffix = utf8("\"}");
+
+        SplittableRandom random = new SplittableRandom(seed);
+        List<InputStream> parts = List.of(
+                new ByteArrayInputStream(prefix),
+                new TextStream(descriptionBytes, random.split()),
+                new ByteArrayInputStream(middle),
+                new TextStream(excerptBytes, random.split()),
+                new ByteArrayInputStream(suffix));
+        long length = prefix.length + descriptionBytes + middle.length + excerptBytes + suffix.length;
+        return new GeneratedJsonBody(parts, length);
+    }
+
+    /**
+     * Returns the total number of bytes the body will produce.
+     * @return body length in bytes
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Returns the number of bytes read from the body so far.
+     * @return produced bytes, {@link #length()} once the body has been read completely
+     */
+    public long produced() {
+        return produced;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = content.read();
+        if (b >= 0) produced++;
+        return b;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int count) throws IOException {
+        int n = content.read(target, offset, count);
+        if (n > 0) produced += n;
+        return n;
+    }
+
+    /**
+     * Describes the body instead of its content, so request logs and report attachments stay small.
+     */
+    @Override
+    public String toString() {
+        return "<generated JSON body of " + length + " bytes>";
+    }
+
+    @Override
+    public void close() throws IOException {
+        content.close();
+    }
+
+    private static byte[] utf8(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[][] words(String... words) {
+        byte[][] bytes = new byte[words.length][];
+        for (int i = 0; i < words.length; i++) {
+            bytes[i] = utf8(words[i]);
+        }
+        return bytes;
+    }
+
+    /**
+     * Exactly {@code remaining} bytes of space-separated words; plain ASCII, so no JSON escaping is needed.
+     */
+    private static final class TextStream extends InputStream {
+
+        private final SplittableRandom random;
+        private long remaining;
+        private byte[] word = new byte[0];
+        private int wordPos;
+
+        private TextStream(long length, SplittableRandom random) {
+            this.remaining = length;
+            this.random = random;
+        }
+
+        @Override
+        public int read() {
+            if (remaining == 0) return -1;
+            remaining--;
+            return nextByte();
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int count) {
+            if (count == 0) return 0;
+            if (remaining == 0) return -1;
+            int n = (int) Math.min(count, remaining);
+            for (int i = 0; i < n; i++) {
+                target[offset + i] = (byte) nextByte();
+            }
+            remaining -= n;
+            return n;
+        }
+
+        private int nextByte() {
+            if (wordPos == word.length) {
+                word = WORDS[random.nextInt(WORDS.length)];
+                wordPos = -1;
+            }
+            return wordPos++ < 0 ? ' ' : word[wordPos - 1];
+        }
+    }
+}
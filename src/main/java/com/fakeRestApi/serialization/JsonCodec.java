@@ -0,0 +1,38 @@
+package com.fakeRestApi.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Reflection-free JSON reader and writer for a single model type.
+ * Implementations are generated at compile time for records annotated with
+ * {@link com.fakeRestApi.codegen.GenerateJsonCodec}.
+ *
+ * @param <T> model type
+ */
+public interface JsonCodec<T> {
+
+    /**
+     * Returns the model type handled by this codec.
+     * @return model class
+     */
+    Class<T> type();
+
+    /**
+     * Writes a value as a JSON object.
+     * @param generator target generator
+     * @param value value to write, may be null
+     * @throws IOException if writing fails
+     */
+    void write(JsonGenerator generator, T value) throws IOException;
+
+    /**
+     * Reads a value starting at the current token, or at the next token if the parser has not been advanced yet.
+     * @param parser source parser
+     * @return parsed value, or null for a JSON null or an empty document
+     * @throws IOException if the JSON is malformed or does not match the model
+     */
+    T read(JsonParser parser) throws IOException;
+}
@@ -0,0 +1,141 @@
+package com.fakeRestApi.serialization;
+
+import com.fakeRestApi.models.Author;
+import com.fakeRestApi.models.AuthorJsonCodec;
+import com.fakeRestApi.models.Book;
+import com.fakeRestApi.models.BookJsonCodec;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry of the generated JSON codecs and helpers to read and write through them.
+ */
+public final class JsonCodecs {
+
+    private static final Map<Class<?>, JsonCodec<?>> CODECS = Map.of(
+            Book.class, new BookJsonCodec(),
+            Author.class, new AuthorJsonCodec());
+
+    /** Private constructor to prevent instantiation */
+    private JsonCodecs() {}
+
+    /**
+     * Looks up the generated codec for a type.
+     * @param type model class
+     * @param <T> model type
+     * @return codec, or null if the type has no generated codec
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> JsonCodec<T> find(Class<T> type) {
+        return (JsonCodec<T>) CODECS.get(type);
+    }
+
+    /**
+     * Serializes a value to a JSON string.
+     * @param codec codec of the value type
+     * @param value value to serialize
+     * @param <T> model type
+     * @return JSON string
+     */
+    public static <T> String writeString(JsonCodec<T> codec, T value) {
+        StringWriter writer = new StringWriter(128);
+        try (JsonGenerator generator = JsonMappers.factory().createGenerator(writer)) {
+            codec.write(generator, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize " + codec.type().getSimpleName(), e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Serializes a value to UTF-8 JSON bytes.
+     * @param codec codec of the value type
+     * @param value value to serialize
+     * @param <T> model type
+     * @return JSON bytes
+     */
+    public static <T> byte[] writeBytes(JsonCodec<T> codec, T value) {
+        try (ByteArrayBuilder buffer = new ByteArrayBuilder(128)) {
+            try (JsonGenerator generator = JsonMappers.factory().createGenerator(buffer)) {
+                codec.write(generator, value);
+            }
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize " + codec.type().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Deserializes a single JSON object.
+     * @param codec codec of the value type
+     * @param json JSON document
+     * @param <T> model type
+     * @return deserialized value, or null for an empty body or JSON null
+     */
+    public static <T> T read(JsonCodec<T> codec, byte[] json) {
+        try {
+            return read(codec, JsonMappers.factory().createParser(json));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to deserialize " + codec.type().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Deserializes a single JSON object from a parser and closes it.
+     * @param codec codec of the value type
+     * @param source parser over the JSON document
+     * @param <T> model type
+     * @return deserialized value, or null for an empty body or JSON null
+     */
+    public static <T> T read(JsonCodec<T> codec, JsonParser source) {
+        try (JsonParser parser = source) {
+            return codec.read(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to deserialize " + codec.type().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Deserializes a top-level JSON array of objects.
+     * @param codec codec of the element type
+     * @param json JSON document
+     * @param <T> model type
+     * @return deserialized elements, or an empty list if the document is not an array
+     */
+    public static <T> List<T> readList(JsonCodec<T> codec, byte[] json) {
+        try {
+            return readList(codec, JsonMappers.factory().createParser(json));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to deserialize list of " + codec.type().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Deserializes a top-level JSON array of objects from a parser and closes it.
+     * @param codec codec of the element type
+     * @param source parser over the JSON document
+     * @param <T> model type
+     * @return deserialized elements, or an empty list if the document is not an array
+     */
+    public static <T> List<T> readList(JsonCodec<T> codec, JsonParser source) {
+        try (JsonParser parser = source) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) return List.of();
+            List<T> values = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                values.add(codec.read(parser));
+            }
+            return values;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to deserialize list of " + codec.type().getSimpleName(), e);
+        }
+    }
+}
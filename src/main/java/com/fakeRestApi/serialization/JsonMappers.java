@@ -0,0 +1,92 @@
+package com.fakeRestApi.serialization;
+
+import com.fakeRestApi.models.Author;
+import com.fakeRestApi.models.Book;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single, centrally configured Jackson mapper shared by RestAssured, the generated codecs and {@code ResponseParser}.
+ * Accessors are generated as bytecode by the Blackbird module instead of being invoked reflectively.
+ * Readers and writers are immutable and cached per type; those of the API models are created eagerly.
+ */
+public final class JsonMappers {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new BlackbirdModule())
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .build();
+
+    private static final Map<Type, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final Map<Type, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
+    static {
+        for (Class<?> model : List.of(Book.class, Author.class)) {
+            reader(model);
+            listReader(model);
+            writer(model);
+        }
+    }
+
+    /** Private constructor to prevent instantiation */
+    private JsonMappers() {}
+
+    /**
+     * Returns the shared mapper. It is thread-safe and must not be reconfigured.
+     * @return shared ObjectMapper
+     */
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    /**
+     * Returns the JSON factory of the shared mapper for streaming reads and writes.
+     * @return shared JsonFactory
+     */
+    public static JsonFactory factory() {
+        return MAPPER.getFactory();
+    }
+
+    /**
+     * Returns the cached reader for a type.
+     * @param type target type
+     * @return reader bound to the type
+     */
+    public static ObjectReader reader(Type type) {
+        return READERS.computeIfAbsent(type, t -> MAPPER.readerFor(MAPPER.constructType(t)));
+    }
+
+    /**
+     * Returns the cached reader for a list of elements of a type.
+     * @param elementType element class
+     * @return reader bound to {@code List<elementType>}
+     */
+    public static ObjectReader listReader(Class<?> elementType) {
+        JavaType listType = MAPPER.getTypeFactory().constructCollectionType(List.class, elementType);
+        return READERS.computeIfAbsent(listType, t -> MAPPER.readerFor(listType));
+    }
+
+    /**
+     * Returns the cached writer for a type.
+     * @param type source type
+     * @return writer bound to the type
+     */
+    public static ObjectWriter writer(Type type) {
+        return WRITERS.computeIfAbsent(type, t -> MAPPER.writerFor(MAPPER.constructType(t)));
+    }
+}
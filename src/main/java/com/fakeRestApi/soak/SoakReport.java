@@ -0,0 +1,133 @@
+package com.fakeRestApi.soak;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Growth analysis of the telemetry of a soak run. The samples are split into consecutive segments and each metric is
+ * reduced to one value per segment: the lowest value for heap after GC, threads and file descriptors, which ignores
+ * short-lived peaks, and the GC time per minute for pauses. A metric grows monotonically when its segment values rise
+ * from every segment to the next and the last exceeds the first by more than the minimum relative growth.
+ *
+ * @param samples telemetry samples in time order
+ * @param trends one trend per metric
+ */
+public record SoakReport(List<TelemetrySample> samples, List<Trend> trends) {
+
+    /**
+     * Segment values of one metric.
+     * @param metric metric name with unit
+     * @param segments value per segment, oldest first
+     * @param growing true if the metric grew monotonically
+     */
+    public record Trend(String metric, double[] segments, boolean growing) {
+
+        /**
+         * Returns the value of the first segment.
+         * @return first segment value
+         */
+        public double first() {
+            return segments.length == 0 ? 0 : segments[0];
+        }
+
+        /**
+         * Returns the value of the last segment.
+         * @return last segment value
+         */
+        public double last() {
+            return segments.length == 0 ? 0 : segments[segments.length - 1];
+        }
+    }
+
+    public SoakReport {
+        samples = List.copyOf(samples);
+        trends = List.copyOf(trends);
+    }
+
+    /**
+     * Analyzes telemetry samples for monotonic growth.
+     * @param samples samples in time order
+     * @param segmentCount number of segments to split the samples into, at least 2
+     * @param minGrowth minimum relative growth from the first to the last segment, e.g. 0.1 for 10%
+     * @return report with one trend per metric; nothing is flagged with fewer than two samples per segment
+     */
+    public static SoakReport analyze(List<TelemetrySample> samples, int segmentCount, double minGrowth) {
+        if (segmentCount < 2) throw new IllegalArgumentException("At least two segments are needed: " + segmentCount);
+        List<List<TelemetrySample>> segments = split(samples, segmentCount);
+        boolean enoughSamples = samples.size() >= segmentCount * 2;
+
+        List<Trend> trends = new ArrayList<>();
+        trends.add(trend("heap after GC (MB)", segments, s -> s.heapAfterGcBytes() / (1024.0 * 1024.0), enoughSamples, minGrowth));
+        trends.add(trend("threads", segments, TelemetrySample::threadCount, enoughSamples, minGrowth));
+        if (samples.stream().allMatch(s -> s.openFileDescriptors() >= 0)) {
+            trends.add(trend("open file descriptors", segments, TelemetrySample::openFileDescriptors, enoughSamples, minGrowth));
+        }
+        double[] gcRate = new double[segments.size()];
+        for (int i = 0; i < segments.size(); i++) {
+            gcRate[i] = gcMillisPerMinute(segments.get(i));
+        }
+        trends.add(new Trend("GC time (ms/min)", gcRate, enoughSamples && isGrowing(gcRate, minGrowth)));
+        return new SoakReport(samples, trends);
+    }
+
+    /**
+     * Returns the metrics that grew monotonically.
+     * @return growing trends
+     */
+    public List<Trend> growing() {
+        return trends.stream().filter(Trend::growing).toList();
+    }
+
+    /**
+     * Renders the segment values of every metric as a plain-text table, flagging growing ones.
+     * @return formatted report
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        TelemetrySample last = samples.isEmpty() ? null : samples.getLast();
+        report.append(String.format("%d samples over %d s%n", samples.size(), last == null ? 0 : last.elapsed().toSeconds()));
+        for (Trend trend : trends) {
+            report.append(String.format("%-24s", trend.metric()));
+            for (double value : trend.segments()) {
+                report.append(String.format(" %10.1f", value));
+            }
+            report.append(trend.growing() ? "   GROWING" : "").append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+
+    private static List<List<TelemetrySample>> split(List<TelemetrySample> samples, int segmentCount) {
+        List<List<TelemetrySample>> segments = new ArrayList<>();
+        for (int i = 0; i < segmentCount; i++) {
+            List<TelemetrySample> segment = samples.subList(samples.size() * i / segmentCount, samples.size() * (i + 1) / segmentCount);
+            if (!segment.isEmpty()) segments.add(segment);
+        }
+        return segments;
+    }
+
+    private static Trend trend(String metric, List<List<TelemetrySample>> segments, ToDoubleFunction<TelemetrySample> value,
+                               boolean enoughSamples, double minGrowth) {
+        double[] values = new double[segments.size()];
+        for (int i = 0; i < segments.size(); i++) {
+            values[i] = segments.get(i).stream().mapToDouble(value).min().orElse(0);
+        }
+        return new Trend(metric, values, enoughSamples && isGrowing(values, minGrowth));
+    }
+
+    private static double gcMillisPerMinute(List<TelemetrySample> segment) {
+        TelemetrySample first = segment.getFirst();
+        TelemetrySample last = segment.getLast();
+        double minutes = (last.elapsed().toMillis() - first.elapsed().toMillis()) / 60_000.0;
+        return minutes <= 0 ? 0 : (last.gcPauseMillis() - first.gcPauseMillis()) / minutes;
+    }
+
+    private static boolean isGrowing(double[] values, double minGrowth) {
+        if (values.length < 2) return false;
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] <= values[i - 1]) return false;
+        }
+        double first = values[0];
+        return values[values.length - 1] - first > minGrowth * Math.max(first, 1);
+    }
+}
@@ -0,0 +1,17 @@
+package com.fakeRestApi.soak;
+
+import java.time.Duration;
+
+/**
+ * JVM resource usage at one point of a soak run.
+ *
+ * @param elapsed time since sampling started
+ * @param heapAfterGcBytes heap still used after the last collection of each heap pool
+ * @param heapUsedBytes heap currently used, including garbage not collected yet
+ * @param gcPauseMillis accumulated collection time since sampling started, without collections forced by the sampler
+ * @param gcCount accumulated number of collections since sampling started, without collections forced by the sampler
+ * @param threadCount live threads
+ * @param openFileDescriptors open file descriptors, -1 where the platform does not report them
+ */
+public record TelemetrySample(Duration elapsed, long heapAfterGcBytes, long heapUsedBytes, long gcPauseMillis,
+                              long gcCount, int threadCount, long openFileDescriptors) {}
@@ -0,0 +1,132 @@
+package com.fakeRestApi.soak;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples heap after GC, GC time, thread count and open file descriptors at a fixed interval from the platform MXBeans.
+ * With {@code forceGc}, every sample is preceded by a full collection, so heap after GC is exact rather than whatever
+ * the last young collection left; the time of these forced collections is kept out of the GC figures.
+ */
+@Slf4j
+public final class TelemetrySampler implements AutoCloseable {
+
+    private final Duration interval;
+    private final boolean forceGc;
+    private final List<TelemetrySample> samples = new ArrayList<>();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+    private ScheduledExecutorService scheduler;
+    private long start;
+    private long baseGcMillis;
+    private long baseGcCount;
+    private long forcedGcMillis;
+    private long forcedGcCount;
+
+    /**
+     * @param interval time between samples
+     * @param forceGc true to run a full collection before each sample
+     */
+    public TelemetrySampler(Duration interval, boolean forceGc) {
+        this.interval = interval;
+        this.forceGc = forceGc;
+    }
+
+    /**
+     * Takes a first sample and keeps sampling on a background thread until closed.
+     * @return this sampler
+     */
+    public synchronized TelemetrySampler start() {
+        start = System.nanoTime();
+        baseGcMillis = gcMillis();
+        baseGcCount = gcCount();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "soak-telemetry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::sample, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    /**
+     * Takes a sample now, in addition to the scheduled ones.
+     * @return the sample
+     */
+    public synchronized TelemetrySample sample() {
+        if (forceGc) {
+            long gcMillis = gcMillis();
+            long gcCount = gcCount();
+            System.gc();
+            forcedGcMillis += gcMillis() - gcMillis;
+            forcedGcCount += gcCount() - gcCount;
+        }
+        TelemetrySample sample = new TelemetrySample(
+                Duration.ofNanos(System.nanoTime() - start),
+                heapAfterGc(),
+                heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum(),
+                gcMillis() - baseGcMillis - forcedGcMillis,
+                gcCount() - baseGcCount - forcedGcCount,
+                threads.getThreadCount(),
+                openFileDescriptors());
+        samples.add(sample);
+        log.debug("Telemetry: {}", sample);
+        return sample;
+    }
+
+    /**
+     * Returns the samples taken so far.
+     * @return samples in time order
+     */
+    public synchronized List<TelemetrySample> samples() {
+        return List.copyOf(samples);
+    }
+
+    /**
+     * Stops sampling after taking a last sample; further calls do nothing.
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduler == null || scheduler.isShutdown()) return;
+        scheduler.shutdownNow();
+        sample();
+    }
+
+    private long heapAfterGc() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            MemoryUsage afterGc = pool.getCollectionUsage();
+            if (afterGc != null) used += afterGc.getUsed();
+        }
+        return used;
+    }
+
+    private long gcMillis() {
+        return collectors.stream().mapToLong(gc -> Math.max(gc.getCollectionTime(), 0)).sum();
+    }
+
+    private long gcCount() {
+        return collectors.stream().mapToLong(gc -> Math.max(gc.getCollectionCount(), 0)).sum();
+    }
+
+    private long openFileDescriptors() {
+        return os instanceof com.sun.management.UnixOperatingSystemMXBean unix ? unix.getOpenFileDescriptorCount() : -1;
+    }
+}
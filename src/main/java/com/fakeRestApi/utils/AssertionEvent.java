@@ -0,0 +1,28 @@
+package com.fakeRestApi.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning one {@link ResponseAssertions} check, including any parsing of the body it triggers.
+ */
+@Name("com.fakeRestApi.Assertion")
+@Label("Response Assertion")
+@Category({"Fake REST API", "Assertions"})
+@Description("Validation step on an API response")
+final class AssertionEvent extends Event {
+
+    @Label("Step")
+    @Description("ResponseAssertions method")
+    String step;
+
+    @Label("Subject")
+    @Description("Schema path, JSON path or expected value the step checks")
+    String subject;
+
+    @Label("Passed")
+    boolean passed;
+}
@@ -0,0 +1,150 @@
+package com.fakeRestApi.utils;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of a batch of lookups keyed by id, in the order the ids were given.
+ * Every id maps to one outcome: its detached response or the exception that prevented a response.
+ *
+ * @param outcomes outcome per id in id order
+ * @param elapsed wall-clock time of the whole batch
+ * @param <K> id type
+ * @param <T> entity type
+ */
+public record BatchResult<K, T>(Map<K, Outcome<T>> outcomes, Duration elapsed) {
+
+    public BatchResult {
+        outcomes = Collections.unmodifiableMap(outcomes);
+    }
+
+    /**
+     * Outcome of the lookup of one id.
+     *
+     * @param response detached response, with a null body for non-2xx responses; null if the call failed
+     * @param error exception of a call that did not produce a response; null otherwise
+     * @param <T> entity type
+     */
+    public record Outcome<T>(DetachedResponse<T> response, Throwable error) {
+
+        /**
+         * Creates the outcome of a call that produced a response.
+         * @param response detached response
+         * @return outcome holding the response
+         */
+        public static <T> Outcome<T> of(DetachedResponse<T> response) {
+            return new Outcome<>(response, null);
+        }
+
+        /**
+         * Creates the outcome of a call that failed without a response.
+         * @param error exception of the call
+         * @return outcome holding the exception
+         */
+        public static <T> Outcome<T> failed(Throwable error) {
+            return new Outcome<>(null, error);
+        }
+
+        /**
+         * Returns the HTTP status code of the response.
+         * @return status code, or 0 if the call failed without a response
+         */
+        public int statusCode() {
+            return response == null ? 0 : response.statusCode();
+        }
+
+        /**
+         * Returns whether the call was answered with a 2xx status.
+         * @return true for 2xx responses
+         */
+        public boolean isSuccessful() {
+            return response != null && response.statusCode() / 100 == 2;
+        }
+    }
+
+    /**
+     * Returns the detached responses of the calls that produced one, in id order.
+     * @return detached responses per id; bodies are null for non-2xx responses
+     */
+    public Map<K, DetachedResponse<T>> responses() {
+        Map<K, DetachedResponse<T>> responses = new LinkedHashMap<>();
+        outcomes.forEach((id, outcome) -> {
+            if (outcome.response() != null) responses.put(id, outcome.response());
+        });
+        return responses;
+    }
+
+    /**
+     * Returns the exceptions of the calls that did not produce a response, in id order.
+     * @return exceptions per id
+     */
+    public Map<K, Throwable> errors() {
+        Map<K, Throwable> errors = new LinkedHashMap<>();
+        outcomes.forEach((id, outcome) -> {
+            if (outcome.error() != null) errors.put(id, outcome.error());
+        });
+        return errors;
+    }
+
+    /**
+     * Returns the HTTP status code received for an id.
+     * @param id requested id
+     * @return status code, or 0 if the call failed without a response or the id was not requested
+     */
+    public int statusCode(K id) {
+        Outcome<T> outcome = outcomes.get(id);
+        return outcome == null ? 0 : outcome.statusCode();
+    }
+
+    /**
+     * Returns the entity received for an id.
+     * @param id requested id
+     * @return parsed entity, or null for failed calls and non-2xx responses
+     */
+    public T body(K id) {
+        Outcome<T> outcome = outcomes.get(id);
+        return outcome == null || outcome.response() == null ? null : outcome.response().body();
+    }
+
+    /**
+     * Returns whether every id was answered with a 2xx status.
+     * @return true if no call failed
+     */
+    public boolean allSuccessful() {
+        return outcomes.values().stream().allMatch(Outcome::isSuccessful);
+    }
+
+    /**
+     * Returns the ids that were not answered with a 2xx status, in id order.
+     * @return status code per failed id, 0 for calls without a response
+     */
+    public Map<K, Integer> failures() {
+        Map<K, Integer> failures = new LinkedHashMap<>();
+        outcomes.forEach((id, outcome) -> {
+            if (!outcome.isSuccessful()) failures.put(id, outcome.statusCode());
+        });
+        return failures;
+    }
+
+    /**
+     * Returns the entities of all successful lookups in id order.
+     * @return parsed entities
+     */
+    public List<T> bodies() {
+        return outcomes.values().stream()
+                .filter(Outcome::isSuccessful)
+                .map(outcome -> outcome.response().body())
+                .toList();
+    }
+
+    /**
+     * Returns the number of distinct ids in the batch.
+     * @return id count
+     */
+    public int size() {
+        return outcomes.size();
+    }
+}
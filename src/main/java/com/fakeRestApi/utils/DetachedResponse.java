@@ -0,0 +1,46 @@
+package com.fakeRestApi.utils;
+
+import com.fakeRestApi.metrics.RequestTimings;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compact, immutable snapshot of a response: status, selected headers, parsed body and timings.
+ * Holds no reference to the RestAssured Response, its body bytes or filter context,
+ * so it is safe to keep in static fields for the lifetime of a suite.
+ *
+ * @param statusCode HTTP status code
+ * @param headers selected headers, keyed case-insensitively
+ * @param body parsed body
+ * @param timings request timings
+ * @param <B> parsed body type
+ */
+public record DetachedResponse<B>(int statusCode, Map<String, String> headers, B body, RequestTimings timings) {
+
+    /**
+     * Copies the selected headers of a parser into a case-insensitive, unmodifiable map.
+     * @param parser source parser
+     * @param names header names to keep; absent headers are skipped
+     * @return selected headers
+     */
+    static Map<String, String> selectHeaders(ResponseParser<?> parser, String... names) {
+        if (names.length == 0) return Map.of();
+        Map<String, String> selected = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (String name : names) {
+            String value = parser.header(name);
+            if (value != null) selected.put(name, value);
+        }
+        return Collections.unmodifiableMap(selected);
+    }
+
+    /**
+     * Returns the value of a retained header.
+     * @param name header name, case-insensitive
+     * @return header value, or null if the header was absent or not selected
+     */
+    public String header(String name) {
+        return headers.get(name);
+    }
+}
@@ -0,0 +1,235 @@
+package com.fakeRestApi.utils;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Streams single fields of a top-level JSON array of objects straight into primitive arrays.
+ * Neither POJOs nor boxed values are created; dates are parsed from the parser's character buffer.
+ * Works on heap and memory-mapped bodies alike. Array elements other than objects and field values of another type
+ * fail with a {@link JsonParseException}, like the generated codecs.
+ */
+public final class JsonFields {
+
+    /** Private constructor to prevent instantiation */
+    private JsonFields() {}
+
+    /**
+     * Counts the elements of a top-level JSON array without materializing them.
+     * @param json JSON document
+     * @return element count, or 0 if the document is not an array
+     */
+    public static int count(byte[] json) {
+        return count(ResponseBody.of(json));
+    }
+
+    /**
+     * Counts the elements of a top-level JSON array without materializing them.
+     * @param body response body
+     * @return element count, or 0 if the body is not an array
+     */
+    public static int count(ResponseBody body) {
+        try (JsonParser parser = body.parser()) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) return 0;
+            int count = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                parser.skipChildren();
+                count++;
+            }
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read JSON array", e);
+        }
+    }
+
+    /**
+     * Extracts an integer field from every object of a top-level JSON array.
+     * @param json JSON document
+     * @param field field name
+     * @return field values in array order; missing or null values are 0
+     */
+    public static int[] ints(byte[] json, String field) {
+        return ints(ResponseBody.of(json), field);
+    }
+
+    /**
+     * Extracts an integer field from every object of a top-level JSON array.
+     * @param body response body
+     * @param field field name
+     * @return field values in array order; missing or null values are 0
+     */
+    public static int[] ints(ResponseBody body, String field) {
+        int[] values = new int[64];
+        int size = 0;
+        try (JsonParser parser = body.parser()) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) return new int[0];
+            while (nextObject(parser)) {
+                int value = 0;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    boolean match = field.equals(parser.currentName());
+                    JsonToken token = parser.nextToken();
+                    if (!match || token == JsonToken.VALUE_NULL) {
+                        parser.skipChildren();
+                    } else if (token == JsonToken.VALUE_NUMBER_INT) {
+                        value = parser.getIntValue();
+                    } else {
+                        throw new JsonParseException(parser, "Expected integer for field '" + field + "' but was " + token);
+                    }
+                }
+                if (size == values.length) values = Arrays.copyOf(values, size * 2);
+                values[size++] = value;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to extract JSON field '" + field + "'", e);
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Extracts an ISO-8601 date-time field from every object of a top-level JSON array as epoch milliseconds.
+     * Values without a zone offset are treated as UTC.
+     * @param json JSON document
+     * @param field field name
+     * @return epoch milliseconds in array order; missing or null values are {@link Long#MIN_VALUE}
+     */
+    public static long[] epochMillis(byte[] json, String field) {
+        return epochMillis(ResponseBody.of(json), field);
+    }
+
+    /**
+     * Extracts an ISO-8601 date-time field from every object of a top-level JSON array as epoch milliseconds.
+     * Values without a zone offset are treated as UTC.
+     * @param body response body
+     * @param field field name
+     * @return epoch milliseconds in array order; missing or null values are {@link Long#MIN_VALUE}
+     */
+    public static long[] epochMillis(ResponseBody body, String field) {
+        long[] values = new long[64];
+        int size = 0;
+        try (JsonParser parser = body.parser()) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) return new long[0];
+            while (nextObject(parser)) {
+                long value = Long.MIN_VALUE;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    boolean match = field.equals(parser.currentName());
+                    JsonToken token = parser.nextToken();
+                    if (!match || token == JsonToken.VALUE_NULL) {
+                        parser.skipChildren();
+                    } else if (token == JsonToken.VALUE_STRING) {
+                        value = epochMillis(parser);
+                    } else {
+                        throw new JsonParseException(parser, "Expected date-time string for field '" + field + "' but was " + token);
+                    }
+                }
+                if (size == values.length) values = Arrays.copyOf(values, size * 2);
+                values[size++] = value;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to extract JSON field '" + field + "'", e);
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Advances to the next element of the array the parser is in.
+     * @return true at the start of an object, false at the end of the array
+     * @throws JsonParseException if the element is not an object
+     */
+    private static boolean nextObject(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) return false;
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected JSON object in array but was " + token);
+        }
+        return true;
+    }
+
+    private static long epochMillis(JsonParser parser) throws IOException {
+        try {
+            return parseEpochMillis(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        } catch (IllegalArgumentException e) {
+            throw new JsonParseException(parser, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parses {@code yyyy-MM-ddTHH:mm:ss[.fraction][Z|±HH:mm]} without allocating.
+     * @throws IllegalArgumentException if the text does not match that format
+     */
+    static long parseEpochMillis(char[] text, int offset, int length) {
+        int end = offset + length;
+        if (length < 19 || text[offset + 4] != '-' || text[offset + 7] != '-' || text[offset + 10] != 'T'
+                || text[offset + 13] != ':' || text[offset + 16] != ':') {
+            throw notDateTime(text, offset, length);
+        }
+        int year = digits(text, offset, 4);
+        int month = digits(text, offset + 5, 2);
+        int day = digits(text, offset + 8, 2);
+        int hour = digits(text, offset + 11, 2);
+        int minute = digits(text, offset + 14, 2);
+        int second = digits(text, offset + 17, 2);
+        if ((year | month | day | hour | minute | second) < 0) throw notDateTime(text, offset, length);
+
+        int pos = offset + 19;
+        int millis = 0;
+        if (pos < end && text[pos] == '.') {
+            int fractionStart = ++pos;
+            int scale = 100;
+            while (pos < end && text[pos] >= '0' && text[pos] <= '9') {
+                millis += (text[pos++] - '0') * scale;
+                scale /= 10;
+            }
+            if (pos == fractionStart) throw notDateTime(text, offset, length);
+        }
+
+        int offsetSeconds = 0;
+        if (pos < end && (text[pos] == '+' || text[pos] == '-')) {
+            if (end - pos != 6 || text[pos + 3] != ':') throw notDateTime(text, offset, length);
+            int sign = text[pos] == '-' ? -1 : 1;
+            int offsetHours = digits(text, pos + 1, 2);
+            int offsetMinutes = digits(text, pos + 4, 2);
+            if ((offsetHours | offsetMinutes) < 0) throw notDateTime(text, offset, length);
+            offsetSeconds = sign * (offsetHours * 3600 + offsetMinutes * 60);
+            pos = end;
+        } else if (pos < end && text[pos] == 'Z') {
+            pos++;
+        }
+        if (pos != end) throw notDateTime(text, offset, length);
+
+        long epochDay = daysFromCivil(year, month, day);
+        long epochSecond = epochDay * 86_400 + hour * 3_600L + minute * 60L + second - offsetSeconds;
+        return epochSecond * 1_000 + millis;
+    }
+
+    /**
+     * Reads a fixed number of decimal digits.
+     * @return their value, or -1 if any of them is not a digit
+     */
+    private static int digits(char[] text, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            char c = text[i];
+            if (c < '0' || c > '9') return -1;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static IllegalArgumentException notDateTime(char[] text, int offset, int length) {
+        return new IllegalArgumentException("Not an ISO-8601 date-time: " + new String(text, offset, length));
+    }
+
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+}
@@ -0,0 +1,51 @@
+package com.fakeRestApi.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Validates already parsed JSON trees against classpath schemas, for bodies that are not available as a String.
+ * Uses the same validator library as RestAssured's JsonSchemaValidator; compiled schemas are cached.
+ */
+public final class JsonSchemas {
+
+    private static final JsonSchemaFactory FACTORY = JsonSchemaFactory.byDefault();
+    private static final Map<String, JsonSchema> SCHEMAS = new ConcurrentHashMap<>();
+
+    /** Private constructor to prevent instantiation */
+    private JsonSchemas() {}
+
+    /**
+     * Validates a JSON tree against a schema from the classpath.
+     * @param schemaPath classpath location of the schema
+     * @param document JSON tree to validate
+     * @return validation report
+     */
+    public static ProcessingReport validate(String schemaPath, JsonNode document) {
+        try {
+            return SCHEMAS.computeIfAbsent(schemaPath, JsonSchemas::load).validate(document);
+        } catch (ProcessingException e) {
+            throw new IllegalStateException("Failed to validate against JSON schema " + schemaPath, e);
+        }
+    }
+
+    private static JsonSchema load(String schemaPath) {
+        try {
+            String resource = schemaPath.startsWith("/") ? schemaPath : "/" + schemaPath;
+            return FACTORY.getJsonSchema(JsonLoader.fromResource(resource));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load JSON schema " + schemaPath, e);
+        } catch (ProcessingException e) {
+            throw new IllegalStateException("Invalid JSON schema " + schemaPath, e);
+        }
+    }
+}
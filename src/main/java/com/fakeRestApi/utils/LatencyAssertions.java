@@ -0,0 +1,131 @@
+package com.fakeRestApi.utils;
+
+import com.fakeRestApi.metrics.LatencyHistogram;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fluent latency assertions over repeated calls of one endpoint.
+ * The call is executed for the configured warm-up rounds first (not measured),
+ * then for the configured iterations, and percentiles are asserted on the measured response times.
+ *
+ * @param <T> Type of the response POJO
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LatencyAssertions<T> {
+
+    private final Supplier<ResponseParser<T>> call;
+    private int warmUpCalls = 3;
+    private int measuredCalls = 20;
+    private LatencyHistogram histogram;
+    private final Map<Integer, Integer> statusCodes = new TreeMap<>();
+
+    /**
+     * Starts a repeated measurement of the given call.
+     * @param call API call to measure, e.g. {@code () -> booksApi.getBookById(1)}
+     * @param <T> Type of the response POJO
+     * @return new LatencyAssertions instance
+     */
+    public static <T> LatencyAssertions<T> measure(Supplier<ResponseParser<T>> call) {
+        return new LatencyAssertions<>(call);
+    }
+
+    /**
+     * Sets the number of unmeasured calls made before sampling.
+     * @param calls warm-up call count
+     * @return this LatencyAssertions instance
+     */
+    public LatencyAssertions<T> warmUp(int calls) {
+        this.warmUpCalls = calls;
+        return this;
+    }
+
+    /**
+     * Sets the number of measured calls.
+     * @param calls measured call count
+     * @return this LatencyAssertions instance
+     */
+    public LatencyAssertions<T> iterations(int calls) {
+        this.measuredCalls = calls;
+        return this;
+    }
+
+    /**
+     * Verifies that the given percentile of response times is below the limit.
+     * @param percentile percentile in the range (0, 100]
+     * @param max maximum allowed latency at that percentile
+     * @return this LatencyAssertions instance
+     */
+    public LatencyAssertions<T> verifyPercentileBelow(double percentile, Duration max) {
+        Duration actual = histogram().percentile(percentile);
+        assertThat(actual)
+                .as("p%s response time exceeded. Expected below: %d ms, Actual: %d ms (%s)",
+                        percentile, max.toMillis(), actual.toMillis(), histogram().summary())
+                .isLessThan(max);
+        return this;
+    }
+
+    /**
+     * Verifies that the 95th percentile of response times is below the limit.
+     * @param max maximum allowed p95 latency
+     * @return this LatencyAssertions instance
+     */
+    public LatencyAssertions<T> verifyP95Below(Duration max) {
+        return verifyPercentileBelow(95, max);
+    }
+
+    /**
+     * Verifies that the 99th percentile of response times is below the limit.
+     * @param max maximum allowed p99 latency
+     * @return this LatencyAssertions instance
+     */
+    public LatencyAssertions<T> verifyP99Below(Duration max) {
+        return verifyPercentileBelow(99, max);
+    }
+
+    /**
+     * Verifies that every measured call returned the expected status code.
+     * @param expected expected HTTP status code
+     * @return this LatencyAssertions instance
+     */
+    public LatencyAssertions<T> verifyAllStatusCodes(int expected) {
+        histogram();
+        assertThat(statusCodes)
+                .as("All measured calls should return %d, but got %s", expected, statusCodes)
+                .containsOnlyKeys(expected);
+        return this;
+    }
+
+    /**
+     * Returns the histogram of measured response times, running the measurement on first access.
+     * @return latency histogram
+     */
+    public LatencyHistogram histogram() {
+        if (histogram == null) {
+            histogram = sample();
+        }
+        return histogram;
+    }
+
+    private LatencyHistogram sample() {
+        for (int i = 0; i < warmUpCalls; i++) {
+            call.get();
+        }
+        LatencyHistogram measured = new LatencyHistogram();
+        for (int i = 0; i < measuredCalls; i++) {
+            ResponseParser<T> response = call.get();
+            measured.record(response.responseTime());
+            statusCodes.merge(response.statusCode(), 1, Integer::sum);
+        }
+        log.info("Measured {} calls after {} warm-up calls: {}", measuredCalls, warmUpCalls, measured.summary());
+        return measured;
+    }
+}
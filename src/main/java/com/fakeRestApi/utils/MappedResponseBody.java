@@ -0,0 +1,117 @@
+package com.fakeRestApi.utils;
+
+import com.fakeRestApi.serialization.JsonMappers;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Response body spilled to a temp file and read back through a read-only memory mapping.
+ * The file is deleted as soon as it is mapped; the mapping stays valid until the buffer is garbage collected.
+ * Bodies larger than 2 GiB are not supported.
+ */
+public final class MappedResponseBody implements ResponseBody {
+
+    private final MappedByteBuffer mapping;
+
+    private MappedResponseBody(MappedByteBuffer mapping) {
+        this.mapping = mapping;
+    }
+
+    /**
+     * Maps a spilled body file and removes it from the file system, also if it cannot be mapped.
+     * @param file temp file holding the complete body
+     * @return mapped body
+     */
+    public static MappedResponseBody map(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Response body of " + size + " bytes exceeds the 2 GiB mapping limit");
+            }
+            return new MappedResponseBody(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map spilled response body " + file, e);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Some platforms refuse to delete mapped files; fall back to deletion on exit
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    @Override
+    public long length() {
+        return mapping.capacity();
+    }
+
+    @Override
+    public ByteBuffer buffer() {
+        return mapping.asReadOnlyBuffer();
+    }
+
+    @Override
+    public InputStream stream() {
+        return new BufferInputStream(buffer());
+    }
+
+    @Override
+    public JsonParser parser() throws IOException {
+        return JsonMappers.factory().createParser(stream());
+    }
+
+    @Override
+    public boolean isMapped() {
+        return true;
+    }
+
+    /** Unsynchronized stream over a buffer; Jackson reads it in blocks into its own recycled buffers */
+    private static final class BufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) {
+            if (length == 0) return 0;
+            if (!buffer.hasRemaining()) return -1;
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(target, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.fakeRestApi.utils;
+
+import java.util.Arrays;
+
+/**
+ * Invariant checks over primitive arrays, as produced by {@link ResponseParser#ints(String)}
+ * and {@link ResponseParser#epochMillis(String)}. None of the checks box values.
+ */
+public final class PrimitiveInvariants {
+
+    /** Private constructor to prevent instantiation */
+    private PrimitiveInvariants() {}
+
+    /**
+     * Checks that no value occurs twice.
+     * @param values values to check
+     * @return true if all values are distinct
+     */
+    public static boolean allUnique(int[] values) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] == sorted[i - 1]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks that every value is greater than the previous one.
+     * @param values values to check
+     * @return true if strictly increasing
+     */
+    public static boolean isStrictlyIncreasing(int[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] <= values[i - 1]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks that every value is exactly one greater than the previous one.
+     * @param values values to check
+     * @return true if values form a gap-free ascending sequence
+     */
+    public static boolean isSequential(int[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] - values[i - 1] != 1) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks that every value is less than the previous one.
+     * @param values values to check
+     * @return true if strictly decreasing
+     */
+    public static boolean isStrictlyDecreasing(long[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] >= values[i - 1]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks that no value is greater than the previous one.
+     * @param values values to check
+     * @return true if monotonically non-increasing
+     */
+    public static boolean isNonIncreasing(long[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] > values[i - 1]) return false;
+        }
+        return true;
+    }
+}
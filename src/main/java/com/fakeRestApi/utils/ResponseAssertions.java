@@ -1,8 +1,12 @@
 package com.fakeRestApi.utils;
 
+import com.fakeRestApi.metrics.RequestTimings;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
 import io.restassured.module.jsv.JsonSchemaValidator;
 import lombok.RequiredArgsConstructor;
+import org.hamcrest.MatcherAssert;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
@@ -27,11 +31,12 @@ public class ResponseAssertions<T> {
      * @return this ResponseAssertions instance
      */
     public ResponseAssertions<T> hasStatusCode(int expected) {
-        int actual = responseParser.statusCode();
-        assertThat(actual)
-                .as("Status Code mismatch. Expected: %d but was: %d", expected, actual)
-                .isEqualTo(expected);
-        return this;
+        return step("hasStatusCode", expected, () -> {
+            int actual = responseParser.statusCode();
+            assertThat(actual)
+                    .as("Status Code mismatch. Expected: %d but was: %d", expected, actual)
+                    .isEqualTo(expected);
+        });
     }
 
     /**
@@ -64,11 +69,12 @@ public class ResponseAssertions<T> {
      * @return this ResponseAssertions instance
      */
     public ResponseAssertions<T> verifyContentType(String expectedContentType) {
-        String actual = responseParser.getContentType();
-        assertThat(actual)
-                .as("Content-Type mismatch. Expected: %s, Actual: %s", expectedContentType, actual)
-                .contains(expectedContentType);
-        return this;
+        return step("verifyContentType", expectedContentType, () -> {
+            String actual = responseParser.getContentType();
+            assertThat(actual)
+                    .as("Content-Type mismatch. Expected: %s, Actual: %s", expectedContentType, actual)
+                    .contains(expectedContentType);
+        });
     }
 
     /**
@@ -78,11 +84,12 @@ public class ResponseAssertions<T> {
      * @return this ResponseAssertions instance
      */
     public ResponseAssertions<T> verifyStringJsonPath(String jsonPath, String expectedValue) {
-        String actual = responseParser.getJsonPath().getString(jsonPath);
-        assertThat(actual)
-                .as("JSON path '%s' value mismatch. Expected: %s, Actual: %s", jsonPath, expectedValue, actual)
-                .contains(expectedValue);
-        return this;
+        return step("verifyStringJsonPath", jsonPath, () -> {
+            String actual = responseParser.getJsonPath().getString(jsonPath);
+            assertThat(actual)
+                    .as("JSON path '%s' value mismatch. Expected: %s, Actual: %s", jsonPath, expectedValue, actual)
+                    .contains(expectedValue);
+        });
     }
 
     /**
@@ -91,11 +98,12 @@ public class ResponseAssertions<T> {
      * @return this ResponseAssertions instance
      */
     public ResponseAssertions<T> verifyStringJsonPathIsNotBlank(String jsonPath) {
-        String actual = responseParser.getJsonPath().getString(jsonPath);
-        assertThat(actual)
-                .as("Expected non-blank value at JSON path '%s'", jsonPath)
-                .isNotBlank();
-        return this;
+        return step("verifyStringJsonPathIsNotBlank", jsonPath, () -> {
+            String actual = responseParser.getJsonPath().getString(jsonPath);
+            assertThat(actual)
+                    .as("Expected non-blank value at JSON path '%s'", jsonPath)
+                    .isNotBlank();
+        });
     }
 
     /**
@@ -105,11 +113,12 @@ public class ResponseAssertions<T> {
      * @return this ResponseAssertions instance
      */
     public ResponseAssertions<T> verifyIntegerJsonPath(String jsonPath, int expectedValue) {
-        int actual = responseParser.getJsonPath().getInt(jsonPath);
-        assertThat(actual)
-                .as("JSON path '%s' integer value mismatch. Expected: %d, Actual: %d", jsonPath, expectedValue, actual)
-                .isEqualTo(expectedValue);
-        return this;
+        return step("verifyIntegerJsonPath", jsonPath, () -> {
+            int actual = responseParser.getJsonPath().getInt(jsonPath);
+            assertThat(actual)
+                    .as("JSON path '%s' integer value mismatch. Expected: %d, Actual: %d", jsonPath, expectedValue, actual)
+                    .isEqualTo(expectedValue);
+        });
     }
 
     /**
@@ -118,11 +127,12 @@ public class ResponseAssertions<T> {
      * @return this ResponseAssertions instance
      */
     public ResponseAssertions<T> verifyBodyEqualsToPojo(T expected) {
-        T actual = responseParser.asPojo();
-        assertThat(actual)
-                .as("Response body not equal to expected object")
-                .isEqualTo(expected);
-        return this;
+        return step("verifyBodyEqualsToPojo", null, () -> {
+            T actual = responseParser.asPojo();
+            assertThat(actual)
+                    .as("Response body not equal to expected object")
+                    .isEqualTo(expected);
+        });
     }
 
     /**
@@ -130,25 +140,115 @@ public class ResponseAssertions<T> {
      * @return this ResponseAssertions instance
      */
     public ResponseAssertions<T> verifyPojoListNotEmpty() {
-        List<T> list = responseParser.asListOfPojo();
-        assertThat(list)
-                .as("Expected non-empty list in response body")
-                .isNotNull()
-                .isNotEmpty();
-        return this;
+        return step("verifyPojoListNotEmpty", null, () -> {
+            List<T> list = responseParser.asListOfPojo();
+            assertThat(list)
+                    .as("Expected non-empty list in response body")
+                    .isNotNull()
+                    .isNotEmpty();
+        });
+    }
+
+    /**
+     * Verifies that the HTTP exchange completed within the given time.
+     * @param max maximum allowed response time
+     * @return this ResponseAssertions instance
+     */
+    public ResponseAssertions<T> verifyResponseTimeBelow(Duration max) {
+        return step("verifyResponseTimeBelow", max, () -> {
+            Duration actual = responseParser.responseTime();
+            assertThat(actual)
+                    .as("Response time exceeded. Expected below: %d ms, Actual: %d ms", max.toMillis(), actual.toMillis())
+                    .isLessThan(max);
+        });
+    }
+
+    /**
+     * Verifies that the response headers arrived within the given time after the request was sent.
+     * @param max maximum allowed time to first byte
+     * @return this ResponseAssertions instance
+     */
+    public ResponseAssertions<T> verifyTimeToFirstByteBelow(Duration max) {
+        return step("verifyTimeToFirstByteBelow", max, () -> {
+            Duration actual = responseParser.timings().timeToFirstByte();
+            assertThat(actual)
+                    .as("Time to first byte exceeded. Expected below: %d ms, Actual: %d ms", max.toMillis(), actual.toMillis())
+                    .isLessThan(max);
+        });
+    }
+
+    /**
+     * Verifies that the server compressed the response body and that compression reduced the transferred size.
+     * @return this ResponseAssertions instance
+     */
+    public ResponseAssertions<T> verifyCompressed() {
+        return step("verifyCompressed", null, () -> {
+            RequestTimings timings = responseParser.timings();
+            assertThat(timings.compressed())
+                    .as("Expected a compressed response body but Content-Encoding was: %s", timings.contentEncoding())
+                    .isTrue();
+            assertThat(timings.wireBodyBytes())
+                    .as("Compressed body (%d B) should be smaller than the decoded body (%d B)",
+                            timings.wireBodyBytes(), timings.decodedBodyBytes())
+                    .isLessThan(timings.decodedBodyBytes());
+        });
+    }
+
+    /**
+     * Verifies the content coding the response body was transferred with.
+     * @param expected expected content coding, e.g. gzip or identity
+     * @return this ResponseAssertions instance
+     */
+    public ResponseAssertions<T> verifyContentEncoding(String expected) {
+        return step("verifyContentEncoding", expected, () -> {
+            String actual = responseParser.timings().contentEncoding();
+            assertThat(actual)
+                    .as("Content-Encoding mismatch. Expected: %s, Actual: %s", expected, actual)
+                    .isEqualToIgnoringCase(expected);
+        });
     }
 
     /**
      * Validates the response body against a JSON schema from the classpath.
+     * Bodies spilled to disk are streamed from the memory mapping into a JSON tree instead of a String.
      * @param schemaPath path to the JSON schema file
      * @return this ResponseAssertions instance
      */
     public ResponseAssertions<T> validateJsonSchema(String schemaPath) {
-        responseParser.response()
-                .then()
-                .assertThat()
-                .body(JsonSchemaValidator.matchesJsonSchemaInClasspath(schemaPath));
-        return this;
+        return step("validateJsonSchema", schemaPath, () -> {
+            if (responseParser.isBodyMapped()) {
+                ProcessingReport report = JsonSchemas.validate(schemaPath, responseParser.asJsonTree());
+                assertThat(report.isSuccess())
+                        .as("Response body does not match JSON schema %s: %s", schemaPath, report)
+                        .isTrue();
+                return;
+            }
+            MatcherAssert.assertThat("Response body does not match JSON schema " + schemaPath,
+                    responseParser.bodyAsString(),
+                    JsonSchemaValidator.matchesJsonSchemaInClasspath(schemaPath));
+        });
+    }
+
+    /**
+     * Runs a validation step inside a Flight Recorder {@link AssertionEvent}.
+     */
+    private ResponseAssertions<T> step(String step, Object subject, Runnable check) {
+        AssertionEvent event = new AssertionEvent();
+        event.begin();
+        boolean passed = false;
+        try {
+            check.run();
+            passed = true;
+            return this;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.step = step;
+                event.subject = subject == null ? null : subject.toString();
+                event.passed = passed;
+                event.commit();
+            }
+        }
     }
 
     /**
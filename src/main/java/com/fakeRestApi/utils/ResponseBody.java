@@ -0,0 +1,99 @@
+package com.fakeRestApi.utils;
+
+import com.fakeRestApi.serialization.JsonMappers;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Received response body, held either on the heap or in a memory-mapped temp file.
+ * All views are read-only and share the underlying bytes.
+ */
+public interface ResponseBody {
+
+    /** Body of a response without content */
+    ResponseBody EMPTY = of(new byte[0]);
+
+    /**
+     * Returns the body length.
+     * @return length in bytes
+     */
+    long length();
+
+    /**
+     * Returns a read-only view of the body bytes.
+     * @return buffer positioned at the start of the body
+     */
+    ByteBuffer buffer();
+
+    /**
+     * Returns a stream over the body bytes.
+     * @return new stream positioned at the start of the body
+     */
+    InputStream stream();
+
+    /**
+     * Creates a JSON parser over the body using the shared JSON factory.
+     * @return new parser; the caller closes it
+     * @throws IOException if the parser cannot be created
+     */
+    JsonParser parser() throws IOException;
+
+    /**
+     * Returns whether the body lives outside the heap.
+     * @return true if the body is memory-mapped
+     */
+    default boolean isMapped() {
+        return false;
+    }
+
+    /**
+     * Decodes the body as UTF-8 text. Materializes the whole body on the heap.
+     * @return body text
+     */
+    default String asString() {
+        return StandardCharsets.UTF_8.decode(buffer()).toString();
+    }
+
+    /**
+     * Wraps heap bytes without copying them.
+     * @param bytes body bytes
+     * @return heap body
+     */
+    static ResponseBody of(byte[] bytes) {
+        return new Heap(bytes);
+    }
+
+    /** Body backed by a heap byte array */
+    record Heap(byte[] bytes) implements ResponseBody {
+
+        @Override
+        public long length() {
+            return bytes.length;
+        }
+
+        @Override
+        public ByteBuffer buffer() {
+            return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+        }
+
+        @Override
+        public InputStream stream() {
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public JsonParser parser() throws IOException {
+            return JsonMappers.factory().createParser(bytes);
+        }
+
+        @Override
+        public String asString() {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -1,28 +1,50 @@
 package com.fakeRestApi.utils;
 
+import com.fakeRestApi.metrics.RequestTimings;
+import com.fakeRestApi.serialization.JsonCodec;
+import com.fakeRestApi.serialization.JsonCodecs;
+import com.fakeRestApi.serialization.JsonMappers;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.http.Headers;
 import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Generic response parser for RestAssured responses.
- * Provides typed access to response content, status, and schema validation.
+ * Provides typed access to response content, status, request timings, and schema validation.
+ * A lightweight parser keeps only status, headers and body bytes and does not retain the RestAssured Response.
+ * Bodies spilled to disk by the HTTP client are read through a memory mapping instead of the Response.
+ * Responses received over the JDK HTTP transport are held the same way as lightweight ones.
  *
  * @param <T> type of the POJO represented by the response
  */
-@AllArgsConstructor
+@AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
 @NoArgsConstructor
 public class ResponseParser<T> {
 
     private Response response;
     private Class<T> type;
+    private RequestTimings timings;
+    private int statusCode;
+    private String contentType;
+    private Headers headers;
+    private ResponseBody body;
 
     /**
      * Returns the raw RestAssured Response object.
-     * @return response instance
+     * @return response instance, or null for a lightweight parser
      */
     public Response response() {
         return response;
@@ -33,7 +55,8 @@ public class ResponseParser<T> {
      * @return JsonPath instance
      */
     public JsonPath getJsonPath() {
-        return response.jsonPath();
+        if (response != null && !body().isMapped()) return response.jsonPath();
+        return new JsonPath(bodyStream());
     }
 
     /**
@@ -41,25 +64,160 @@ public class ResponseParser<T> {
      * @return content type as a string
      */
     public String getContentType() {
-        return response.getContentType();
+        return response != null ? response.getContentType() : contentType;
+    }
+
+    /**
+     * Returns the value of a response header.
+     * @param name header name
+     * @return header value, or null if absent
+     */
+    public String header(String name) {
+        if (response != null) return response.getHeader(name);
+        return headers == null ? null : headers.getValue(name);
+    }
+
+    /**
+     * Exposes the response body as a read-only buffer over the received bytes, without copying or charset decoding.
+     * @return read-only body buffer, empty if there is no body
+     */
+    public ByteBuffer bodyBuffer() {
+        return body().buffer();
+    }
+
+    /**
+     * Exposes the response body as a stream over the received bytes, without copying or charset decoding.
+     * @return body stream, empty if there is no body
+     */
+    public InputStream bodyStream() {
+        return body().stream();
+    }
+
+    /**
+     * Decodes the response body as UTF-8 text.
+     * @return body text, empty if there is no body
+     */
+    public String bodyAsString() {
+        return body().asString();
+    }
+
+    /**
+     * Returns whether the body was spilled to disk and is read through a memory mapping.
+     * @return true if the body is memory-mapped
+     */
+    public boolean isBodyMapped() {
+        return body().isMapped();
+    }
+
+    /**
+     * Parses the body into a JSON tree, streaming it from the heap or the memory mapping.
+     * @return JSON tree, or a missing node if there is no body
+     */
+    public JsonNode asJsonTree() {
+        try (JsonParser parser = body().parser()) {
+            return JsonMappers.mapper().readTree(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse response body", e);
+        }
+    }
+
+    /**
+     * Returns the body, reading it from the Response only once.
+     */
+    private ResponseBody body() {
+        if (body == null) body = response != null ? ResponseBody.of(response.asByteArray()) : ResponseBody.EMPTY;
+        return body;
     }
 
     /**
      * Deserializes the response body into a single POJO of the defined type.
-     * @return deserialized POJO or null if response or type is null
+     * Uses the generated codec of the type if there is one, otherwise the cached reader of the shared mapper.
+     * @return deserialized POJO, or null if the type is null or the response has no body
      */
     public T asPojo() {
-        if (response == null || type == null) return null;
-        return response.as(type);
+        if (type == null) return null;
+        try {
+            JsonCodec<T> codec = JsonCodecs.find(type);
+            if (codec != null) return JsonCodecs.read(codec, body().parser());
+            try (JsonParser parser = body().parser()) {
+                if (parser.nextToken() == null) return null;
+                return JsonMappers.reader(type).readValue(parser);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to deserialize " + type.getSimpleName(), e);
+        }
     }
 
     /**
      * Deserializes the response body into a list of POJOs of the defined type.
-     * @return list of deserialized POJOs, or an empty list if response or type is null
+     * Uses the generated codec of the type if there is one, otherwise the cached list reader of the shared mapper.
+     * @return list of deserialized POJOs, or an empty list if the type is null or the response has no body
      */
     public List<T> asListOfPojo() {
-        if (response == null || type == null) return List.of();
-        return response.jsonPath().getList("$", type);
+        if (type == null) return List.of();
+        try {
+            JsonCodec<T> codec = JsonCodecs.find(type);
+            if (codec != null) return JsonCodecs.readList(codec, body().parser());
+            try (JsonParser parser = body().parser()) {
+                if (parser.nextToken() == null) return List.of();
+                return JsonMappers.listReader(type).readValue(parser);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to deserialize list of " + type.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Counts the elements of a JSON array response without deserializing them.
+     * @return element count, or 0 if the body is not a JSON array
+     */
+    public int size() {
+        return JsonFields.count(body());
+    }
+
+    /**
+     * Streams the {@code id} field of every element of a JSON array response into a primitive array.
+     * @return ids in response order
+     */
+    public int[] ids() {
+        return ints("id");
+    }
+
+    /**
+     * Streams an integer field of every element of a JSON array response into a primitive array.
+     * @param field field name
+     * @return values in response order; missing or null values are 0
+     */
+    public int[] ints(String field) {
+        return JsonFields.ints(body(), field);
+    }
+
+    /**
+     * Streams an ISO-8601 date-time field of every element of a JSON array response into epoch milliseconds.
+     * @param field field name
+     * @return epoch milliseconds in response order; missing or null values are {@link Long#MIN_VALUE}
+     */
+    public long[] epochMillis(String field) {
+        return JsonFields.epochMillis(body(), field);
+    }
+
+    /**
+     * Parses the body as a single POJO and detaches it from the response.
+     * @param headerNames headers to retain
+     * @return compact snapshot without the Response or body bytes
+     */
+    public DetachedResponse<T> detach(String... headerNames) {
+        return new DetachedResponse<>(statusCode(), DetachedResponse.selectHeaders(this, headerNames), asPojo(), timings());
+    }
+
+    /**
+     * Parses the body as a list of POJOs and detaches it from the response.
+     * @param headerNames headers to retain
+     * @return compact snapshot without the Response or body bytes
+     */
+    public DetachedResponse<List<T>> detachList(String... headerNames) {
+        return new DetachedResponse<>(statusCode(), DetachedResponse.selectHeaders(this, headerNames),
+                Collections.unmodifiableList(asListOfPojo()), timings());
     }
 
     /**
@@ -67,7 +225,25 @@ public class ResponseParser<T> {
      * @return status code integer
      */
     public int statusCode() {
-        return response.getStatusCode();
+        return response != null ? response.getStatusCode() : statusCode;
+    }
+
+    /**
+     * Returns the phase timings and byte counts recorded for the request.
+     * @return request timings, or {@link RequestTimings#EMPTY} if the call was not instrumented
+     */
+    public RequestTimings timings() {
+        return timings == null ? RequestTimings.EMPTY : timings;
+    }
+
+    /**
+     * Returns the time the HTTP exchange took.
+     * Uses the recorded timings and falls back to the time measured by RestAssured for uninstrumented calls.
+     * @return response time
+     */
+    public Duration responseTime() {
+        if (timings().totalNanos() > 0 || response == null) return timings().total();
+        return Duration.ofMillis(response.getTimeIn(TimeUnit.MILLISECONDS));
     }
 
     /**
@@ -78,8 +254,79 @@ public class ResponseParser<T> {
      * @return new typed ResponseParser instance or empty parser if response is null
      */
     public static <T> ResponseParser<T> of(Response response, Class<T> type) {
+        return of(response, type, RequestTimings.EMPTY);
+    }
+
+    /**
+     * Creates a typed ResponseParser instance carrying the timings of the request.
+     * @param response RestAssured response
+     * @param type class type for deserialization
+     * @param timings recorded request timings
+     * @param <T> generic type of the POJO
+     * @return new typed ResponseParser instance or empty parser if response is null
+     */
+    public static <T> ResponseParser<T> of(Response response, Class<T> type, RequestTimings timings) {
+        return of(response, type, timings, null);
+    }
+
+    /**
+     * Creates a typed ResponseParser instance whose body was spilled to disk by the HTTP client.
+     * @param response RestAssured response
+     * @param type class type for deserialization
+     * @param timings recorded request timings
+     * @param spilledBody body read back from disk, or null to use the body of the Response
+     * @param <T> generic type of the POJO
+     * @return new typed ResponseParser instance or empty parser if response is null
+     */
+    public static <T> ResponseParser<T> of(Response response, Class<T> type, RequestTimings timings,
+                                           ResponseBody spilledBody) {
+        if (response == null) return ResponseParser.empty(type);
+        return new ResponseParser<>(response, type, timings, 0, null, null, spilledBody);
+    }
+
+    /**
+     * Creates a lightweight ResponseParser that copies status, headers and body bytes and drops the Response,
+     * so the RestAssured response graph can be garbage collected as soon as the call returns.
+     * @param response RestAssured response
+     * @param type class type for deserialization
+     * @param timings recorded request timings
+     * @param <T> generic type of the POJO
+     * @return new lightweight ResponseParser instance or empty parser if response is null
+     */
+    public static <T> ResponseParser<T> lightweight(Response response, Class<T> type, RequestTimings timings) {
+        return lightweight(response, type, timings, null);
+    }
+
+    /**
+     * Creates a lightweight ResponseParser whose body may have been spilled to disk by the HTTP client.
+     * @param response RestAssured response
+     * @param type class type for deserialization
+     * @param timings recorded request timings
+     * @param spilledBody body read back from disk, or null to copy the body of the Response
+     * @param <T> generic type of the POJO
+     * @return new lightweight ResponseParser instance or empty parser if response is null
+     */
+    public static <T> ResponseParser<T> lightweight(Response response, Class<T> type, RequestTimings timings,
+                                                    ResponseBody spilledBody) {
         if (response == null) return ResponseParser.empty(type);
-        return new ResponseParser<>(response, type);
+        ResponseBody body = spilledBody != null ? spilledBody : ResponseBody.of(response.asByteArray());
+        return new ResponseParser<>(null, type, timings, response.getStatusCode(), response.getContentType(),
+                response.getHeaders(), body);
+    }
+
+    /**
+     * Creates a ResponseParser from a response received by a transport other than RestAssured.
+     * @param statusCode HTTP status code
+     * @param headers response headers
+     * @param body received body
+     * @param type class type for deserialization
+     * @param timings recorded request timings
+     * @param <T> generic type of the POJO
+     * @return new ResponseParser instance without a RestAssured Response
+     */
+    public static <T> ResponseParser<T> of(int statusCode, Headers headers, ResponseBody body, Class<T> type,
+                                           RequestTimings timings) {
+        return new ResponseParser<>(null, type, timings, statusCode, headers.getValue("Content-Type"), headers, body);
     }
 
     /**
@@ -89,7 +336,7 @@ public class ResponseParser<T> {
      * @return empty typed ResponseParser
      */
     public static <T> ResponseParser<T> empty(Class<T> type) {
-        return new ResponseParser<>(null, type);
+        return new ResponseParser<>(null, type, RequestTimings.EMPTY, 0, null, null, null);
     }
 
     /**
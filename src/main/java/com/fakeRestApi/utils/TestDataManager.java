@@ -2,10 +2,15 @@ package com.fakeRestApi.utils;
 
 import com.fakeRestApi.models.Author;
 import com.fakeRestApi.models.Book;
+import com.fakeRestApi.serialization.BodyTemplate;
+import com.fakeRestApi.serialization.GeneratedJsonBody;
+import com.fakeRestApi.serialization.JsonCodecs;
 import com.github.javafaker.Faker;
 import lombok.experimental.UtilityClass;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 @UtilityClass
@@ -137,4 +142,35 @@ public class TestDataManager {
                 .lastName("Doe")
                 .build();
     }
+
+    /* ----------------------------- PRE-SERIALIZED BODIES ----------------------------- */
+
+    public static List<byte[]> validBookBodies(int count) {
+        List<byte[]> bodies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            bodies.add(JsonCodecs.writeBytes(JsonCodecs.find(Book.class), bookWithValidAllFields()));
+        }
+        return bodies;
+    }
+
+    public static BodyTemplate validBookBodyTemplate() {
+        return BodyTemplate.of(JsonCodecs.find(Book.class), generateValidBookBuilder().id(null).build());
+    }
+
+    public static GeneratedJsonBody largeBookBody(long descriptionBytes, long excerptBytes) {
+        return GeneratedJsonBody.book(bookWithValidAllFields(), descriptionBytes, excerptBytes,
+                ThreadLocalRandom.current().nextLong());
+    }
+
+    public static List<byte[]> validAuthorBodies(int count) {
+        List<byte[]> bodies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            bodies.add(JsonCodecs.writeBytes(JsonCodecs.find(Author.class), authorWithValidAllFields()));
+        }
+        return bodies;
+    }
+
+    public static BodyTemplate validAuthorBodyTemplate() {
+        return BodyTemplate.of(JsonCodecs.find(Author.class), generateValidAuthorBuilder().id(null).build());
+    }
 }
\ No newline at end of file
@@ -2,6 +2,11 @@ package com.fakeRestApi.tests;
 
 import com.fakeRestApi.apiClient.AuthorsApi;
 import com.fakeRestApi.apiClient.BooksApi;
+import com.fakeRestApi.apiClient.ConcurrencyLimiter;
+import com.fakeRestApi.metrics.EndpointMetrics;
+import com.fakeRestApi.tests.support.TestCost;
+import com.fakeRestApi.tests.support.TestCostMeter;
+import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
 import io.restassured.RestAssured;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +18,8 @@ import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.TestInstance;
 
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 @Slf4j
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -21,6 +28,9 @@ public abstract class BaseApiTest {
     protected BooksApi booksApi;
     protected AuthorsApi authorsApi;
 
+    private final List<TestCost> testCosts = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<TestCostMeter> costMeter = new ThreadLocal<>();
+
     @BeforeAll
     @Step("Initialize API clients")
     void initApiClients() {
@@ -33,11 +43,21 @@ public abstract class BaseApiTest {
     @Step("Start test")
     void logTestStart(TestInfo testInfo) {
         log.info("---- STARTED: {} - {}", testInfo.getDisplayName(), getTestMethodName(testInfo));
+        costMeter.set(TestCostMeter.start());
     }
 
     @AfterEach
     @Step("Finish test")
     void logTestFinish(TestInfo testInfo) {
+        TestCostMeter meter = costMeter.get();
+        costMeter.remove();
+        if (meter != null) {
+            String method = getTestMethodName(testInfo);
+            String name = testInfo.getDisplayName().startsWith(method) ? testInfo.getDisplayName() : method + " " + testInfo.getDisplayName();
+            TestCost cost = meter.stop(name);
+            cost.publish();
+            testCosts.add(cost);
+        }
         log.info("---- FINISHED: {} - {}", testInfo.getDisplayName(), getTestMethodName(testInfo));
     }
 
@@ -45,6 +65,14 @@ public abstract class BaseApiTest {
     @Step("Tear down test environment")
     void tearDown() {
         log.info("========== TEST SUITE FINISHED ==========");
+        log.info("HTTP timings per endpoint (ms):\n{}", EndpointMetrics.report());
+        if (!testCosts.isEmpty()) {
+            String costs = TestCost.summary(testCosts);
+            log.info("Cost per test of {}:\n{}", getClass().getSimpleName(), costs);
+            Allure.addAttachment("Cost per test", "text/plain", costs, ".txt");
+        }
+        String limits = ConcurrencyLimiter.report();
+        if (!limits.isEmpty()) log.info("Adaptive concurrency limits:\n{}", limits);
         RestAssured.reset();
     }
 
@@ -2,6 +2,7 @@ package com.fakeRestApi.tests.author;
 
 import com.fakeRestApi.models.Author;
 import com.fakeRestApi.tests.BaseApiTest;
+import com.fakeRestApi.utils.ResponseParser;
 import com.fakeRestApi.utils.TestDataManager;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
@@ -9,7 +10,6 @@ import io.qameta.allure.Feature;
 import io.qameta.allure.Severity;
 import io.qameta.allure.SeverityLevel;
 import io.qameta.allure.Story;
-import io.restassured.response.Response;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
 import org.junit.jupiter.api.MethodOrderer;
@@ -21,7 +21,6 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.concurrent.ThreadLocalRandom;
 
-import static com.fakeRestApi.apiClient.AuthorsApi.AUTHORS_PATH;
 import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
 
 @Epic("Fake REST API tests")
@@ -177,18 +176,13 @@ public class CreateAuthorsTests extends BaseApiTest {
     @Description("Verify that POST /Authors without body returns 400 Bad Request")
     @Severity(SeverityLevel.CRITICAL)
     void checkCreateAuthorWithoutBodyShouldReturnBadRequest(SoftAssertions softly) {
-        Response response = authorsApi.spec()
-                .when()
-                .post(AUTHORS_PATH)
-                .then()
-                .extract()
-                .response();
+        ResponseParser<Author> response = authorsApi.createAuthorWithoutBody();
 
         softly.assertThat(response.statusCode())
                 .as("Expected 400 Bad Request for empty request body")
                 .isEqualTo(SC_BAD_REQUEST);
 
-        String error = response.jsonPath().getString("errors.\"\"[0]");
+        String error = response.getJsonPath().getString("errors.\"\"[0]");
         softly.assertThat(error).isEqualTo("A non-empty request body is required.");
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.fakeRestApi.tests.author;
 
 import com.fakeRestApi.models.Author;
 import com.fakeRestApi.tests.BaseApiTest;
+import com.fakeRestApi.utils.ResponseParser;
 import com.fakeRestApi.utils.TestDataManager;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
@@ -9,14 +10,12 @@ import io.qameta.allure.Feature;
 import io.qameta.allure.Severity;
 import io.qameta.allure.SeverityLevel;
 import io.qameta.allure.Story;
-import io.restassured.response.Response;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
-import static com.fakeRestApi.apiClient.AuthorsApi.AUTHORS_PATH;
 import static org.apache.http.HttpStatus.SC_METHOD_NOT_ALLOWED;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -77,12 +76,7 @@ public class DeleteAuthorsTests extends BaseApiTest {
     @Description("Verify DELETE /Authors without specifying ID returns 405 Method Not Allowed")
     @Severity(SeverityLevel.MINOR)
     void checkDeleteWithoutIdShouldReturn405() {
-        Response response = authorsApi.spec()
-                .when()
-                .delete(AUTHORS_PATH)
-                .then()
-                .extract()
-                .response();
+        ResponseParser<Author> response = authorsApi.deleteAuthors();
 
         assertThat(response.statusCode())
                 .as("DELETE /Authors (without ID) should be disallowed by API design")
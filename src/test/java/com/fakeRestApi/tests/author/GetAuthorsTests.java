@@ -2,6 +2,8 @@ package com.fakeRestApi.tests.author;
 
 import com.fakeRestApi.models.Author;
 import com.fakeRestApi.tests.BaseApiTest;
+import com.fakeRestApi.tests.support.PerfTest;
+import com.fakeRestApi.utils.DetachedResponse;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
 import io.qameta.allure.Feature;
@@ -12,6 +14,7 @@ import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,7 +42,11 @@ public class GetAuthorsTests extends BaseApiTest {
 
     @BeforeAll
     void initAllAuthors() {
-        allAuthors = authorsApi.getAuthors().asListOfPojo();
+        DetachedResponse<List<Author>> detached = authorsApi.getAuthors().detachList();
+        assertThat(detached.statusCode())
+                .as("GET /Authors should succeed before tests")
+                .isEqualTo(SC_OK);
+        allAuthors = detached.body();
         assertThat(allAuthors)
                 .as("Authors list should be fetched before tests")
                 .isNotNull()
@@ -193,4 +200,14 @@ public class GetAuthorsTests extends BaseApiTest {
                             .matches(regexpForMatchingNames);
                 });
     }
+
+    @PerfTest(warmUp = 2, iterations = 20, threads = 4, p95Millis = 2000, p99Millis = 3000)
+    @Tag("timing")
+    @Description("Verify GET /Authors/{id} keeps p95/p99 latency within limits under 4 concurrent callers")
+    @Severity(SeverityLevel.NORMAL)
+    void checkGetAuthorByIdPerformance() {
+        authorsApi.getAuthorById(allAuthors.getFirst().id())
+                .verify()
+                .verifyStatusCodeOk();
+    }
 }
\ No newline at end of file
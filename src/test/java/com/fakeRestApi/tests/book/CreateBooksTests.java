@@ -1,7 +1,9 @@
 package com.fakeRestApi.tests.book;
 
 import com.fakeRestApi.models.Book;
+import com.fakeRestApi.serialization.BodyTemplate;
 import com.fakeRestApi.tests.BaseApiTest;
+import com.fakeRestApi.utils.ResponseParser;
 import com.fakeRestApi.utils.TestDataManager;
 import io.qameta.allure.Epic;
 import io.qameta.allure.Feature;
@@ -9,7 +11,6 @@ import io.qameta.allure.Description;
 import io.qameta.allure.Severity;
 import io.qameta.allure.Story;
 import io.qameta.allure.SeverityLevel;
-import io.restassured.response.Response;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
 import org.junit.jupiter.api.MethodOrderer;
@@ -23,7 +24,6 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 
-import static com.fakeRestApi.apiClient.BooksApi.BOOKS_PATH;
 import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -76,6 +76,26 @@ public class CreateBooksTests extends BaseApiTest {
                 .matches("^\\d{4}-\\d{2}-\\d{2}T.*$");
     }
 
+    @Test
+    @Description("Verify that books created from a pre-serialized body template carry the patched IDs")
+    @Severity(SeverityLevel.NORMAL)
+    void checkUserCanCreateBooksFromBodyTemplate(SoftAssertions softly) {
+        BodyTemplate template = TestDataManager.validBookBodyTemplate();
+
+        for (int id : new int[]{7, 4242, 123456}) {
+            Book createdBook = booksApi.createBookRaw(template.withId(id))
+                    .verify()
+                    .verifyStatusCodeOk()
+                    .validateJsonSchema("schemas/singleBook.json")
+                    .toResponse()
+                    .asPojo();
+
+            softly.assertThat(createdBook.id())
+                    .as("Book ID should match the ID patched into the template")
+                    .isEqualTo(id);
+        }
+    }
+
     @Test
     @Description("Verify that creating a book with empty fields except 'publishDate' returns 400 Bad Request")
     @Severity(SeverityLevel.NORMAL)
@@ -410,16 +430,11 @@ public class CreateBooksTests extends BaseApiTest {
     @Description("Verify that sending POST /Books without a request body returns 400 Bad Request")
     @Severity(SeverityLevel.CRITICAL)
     void checkCreateBookWithoutBodyShouldReturnBadRequest(SoftAssertions softly) {
-        Response response = booksApi.spec()
-                .when()
-                .post(BOOKS_PATH)
-                .then()
-                .extract()
-                .response();
+        ResponseParser<Book> response = booksApi.createBookWithoutBody();
 
         assertBadRequestResponse(response, softly);
 
-        String errorMessage = response.jsonPath().getString("errors.\"\"[0]");
+        String errorMessage = response.getJsonPath().getString("errors.\"\"[0]");
         assertThat(errorMessage)
                 .as("Error message should specify that the request body is missing")
                 .isEqualTo("A non-empty request body is required.");
@@ -473,7 +488,7 @@ public class CreateBooksTests extends BaseApiTest {
                 .startsWith(pastDate.toString().substring(0, 10));
     }
 
-    private void assertBadRequestResponse(Response response, SoftAssertions softly) {
+    private void assertBadRequestResponse(ResponseParser<?> response, SoftAssertions softly) {
         softly.assertThat(response.statusCode())
                 .as("Expected HTTP 400 Bad Request")
                 .isEqualTo(SC_BAD_REQUEST);
@@ -482,12 +497,12 @@ public class CreateBooksTests extends BaseApiTest {
                 .as("Response should use RFC7807 problem+json format")
                 .contains("application/problem+json");
 
-        String title = response.jsonPath().getString("title");
-        Integer status = response.jsonPath().getInt("status");
-        String type = response.jsonPath().getString("type");
-        String traceId = response.jsonPath().getString("traceId");
+        String title = response.getJsonPath().getString("title");
+        Integer status = response.getJsonPath().getInt("status");
+        String type = response.getJsonPath().getString("type");
+        String traceId = response.getJsonPath().getString("traceId");
 
-        String errorMessage = response.jsonPath().getString("errors.\"\"[0]");
+        String errorMessage = response.getJsonPath().getString("errors.\"\"[0]");
 
         softly.assertThat(title)
                 .as("Title should describe validation failure")
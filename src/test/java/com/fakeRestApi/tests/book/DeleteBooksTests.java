@@ -2,6 +2,7 @@ package com.fakeRestApi.tests.book;
 
 import com.fakeRestApi.models.Book;
 import com.fakeRestApi.tests.BaseApiTest;
+import com.fakeRestApi.utils.ResponseParser;
 import com.fakeRestApi.utils.TestDataManager;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
@@ -9,7 +10,6 @@ import io.qameta.allure.Feature;
 import io.qameta.allure.Severity;
 import io.qameta.allure.SeverityLevel;
 import io.qameta.allure.Story;
-import io.restassured.response.Response;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
@@ -18,7 +18,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
-import static com.fakeRestApi.apiClient.BooksApi.BOOKS_PATH;
 import static org.apache.http.HttpStatus.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -77,12 +76,7 @@ public class DeleteBooksTests extends BaseApiTest {
     @Description("Verify DELETE /Books without specifying ID returns 405 Method Not Allowed")
     @Severity(SeverityLevel.MINOR)
     void checkDeleteWithoutIdShouldReturn405() {
-        Response response = booksApi.spec()
-                .when()
-                .delete(BOOKS_PATH)
-                .then()
-                .extract()
-                .response();
+        ResponseParser<Book> response = booksApi.deleteBooks();
 
         assertThat(response.statusCode())
                 .as("DELETE /Books (without ID) should be disallowed by API design")
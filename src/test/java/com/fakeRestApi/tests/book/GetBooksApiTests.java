@@ -2,6 +2,10 @@ package com.fakeRestApi.tests.book;
 
 import com.fakeRestApi.models.Book;
 import com.fakeRestApi.tests.BaseApiTest;
+import com.fakeRestApi.utils.DetachedResponse;
+import com.fakeRestApi.utils.LatencyAssertions;
+import com.fakeRestApi.utils.PrimitiveInvariants;
+import com.fakeRestApi.utils.ResponseParser;
 import com.fakeRestApi.utils.TestDataManager;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
@@ -13,23 +17,20 @@ import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
-import java.time.Instant;
-import java.util.Comparator;
-import java.util.HashSet;
+import java.time.Duration;
 import java.util.List;
 import java.util.Random;
-import java.util.Set;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
 import static org.apache.http.HttpStatus.SC_NOT_FOUND;
+import static org.apache.http.HttpStatus.SC_OK;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Epic("Fake REST API tests")
@@ -40,10 +41,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 public class GetBooksApiTests extends BaseApiTest {
 
     private static List<Book> allBooks;
+    private static int[] allBookIds;
+    private static long[] allPublishDates;
 
     @BeforeAll
     void initAllBooks() {
-        allBooks = booksApi.getBooks().asListOfPojo();
+        ResponseParser<Book> response = booksApi.getBooks();
+        DetachedResponse<List<Book>> detached = response.detachList();
+        assertThat(detached.statusCode())
+                .as("GET /Books should succeed before tests")
+                .isEqualTo(SC_OK);
+        allBooks = detached.body();
+        allBookIds = response.ids();
+        allPublishDates = response.epochMillis("publishDate");
         assertThat(allBooks)
                 .as("Book list should not be empty before tests")
                 .isNotEmpty();
@@ -162,65 +172,44 @@ public class GetBooksApiTests extends BaseApiTest {
     @Description("Verify that all book IDs are unique across the list")
     @Severity(SeverityLevel.NORMAL)
     void checkReturnedBookIdsAreUnique() {
-        assertThat(allBooks)
-                .as("Book list must be initialized from before fixture")
-                .isNotNull();
+        assertThat(allBookIds)
+                .as("Book IDs must be initialized from before fixture")
+                .isNotNull()
+                .hasSize(allBooks.size());
 
-        Set<Integer> uniqueIds = new HashSet<>();
-        allBooks.forEach(book -> {
-            boolean added = uniqueIds.add(book.id());
-            assertThat(added)
-                    .as("Book ID %s should be unique", book.id())
-                    .isTrue();
-        });
-
-        assertThat(uniqueIds.size())
-                .as("Number of unique IDs should match total number of books")
-                .isEqualTo(allBooks.size());
+        assertThat(PrimitiveInvariants.allUnique(allBookIds))
+                .as("Every book ID should be unique")
+                .isTrue();
     }
 
     @Test
     @Description("Verify that books are returned in sequential order by ID")
     @Severity(SeverityLevel.NORMAL)
     void checkBooksReturnedInSequentialOrder(SoftAssertions softly) {
-        assertThat(allBooks)
-                .as("Book list must be initialized from previous test")
+        assertThat(allBookIds)
+                .as("Book IDs must be initialized from before fixture")
                 .isNotNull()
                 .isNotEmpty();
 
-        boolean isSequential = Stream.iterate(1, index -> index < allBooks.size(), index -> index + 1)
-                .allMatch(index -> allBooks.get(index).id() - allBooks.get(index - 1).id() == 1);
-
-        softly.assertThat(isSequential)
+        softly.assertThat(PrimitiveInvariants.isSequential(allBookIds))
                 .as("Book IDs should increase sequentially (1, 2, 3, ...)")
                 .isTrue();
 
-        List<Book> sortedById = allBooks.stream()
-                .sorted(Comparator.comparingInt(Book::id))
-                .toList();
-
-        softly.assertThat(allBooks)
+        softly.assertThat(PrimitiveInvariants.isStrictlyIncreasing(allBookIds))
                 .as("Books should be sorted by ID ascending")
-                .containsExactlyElementsOf(sortedById);
+                .isTrue();
     }
 
     @Test
     @Description("Verify that each next book has an earlier publish date than the previous one (newest to oldest order)")
     @Severity(SeverityLevel.NORMAL)
     void checkBooksPublishDateIsChronologicallyDecreasing() {
-        assertThat(allBooks)
-                .as("Book list must be initialized from previous test")
+        assertThat(allPublishDates)
+                .as("Publish dates must be initialized from before fixture")
                 .isNotNull()
                 .isNotEmpty();
 
-        boolean isChronologicallyDecreasing = IntStream.range(1, allBooks.size())
-                .allMatch(index -> {
-                    var prevDate = Instant.parse(allBooks.get(index - 1).publishDate());
-                    var nextDate = Instant.parse(allBooks.get(index).publishDate());
-                    return prevDate.isAfter(nextDate);
-                });
-
-        assertThat(isChronologicallyDecreasing)
+        assertThat(PrimitiveInvariants.isStrictlyDecreasing(allPublishDates))
                 .as("Each next book's publishDate should be earlier than the previous one (descending order)")
                 .isTrue();
     }
@@ -236,4 +225,30 @@ public class GetBooksApiTests extends BaseApiTest {
         softly.assertThat(fetched.id()).as("ID should match the requested ID").isEqualTo(newBook.id());
         softly.assertThat(fetched.title()).as("Title should match the original one").isEqualTo(newBook.title());
     }
-}
\ No newline at end of file
+
+    @Test
+    @Tag("timing")
+    @Description("Verify GET /Books responds within 5 seconds")
+    @Severity(SeverityLevel.NORMAL)
+    void checkGetAllBooksResponseTime() {
+        booksApi.getBooks()
+                .verify()
+                .verifyStatusCodeOk()
+                .verifyResponseTimeBelow(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @Tag("timing")
+    @Description("Verify GET /Books/{id} latency stays within p95/p99 limits over repeated calls")
+    @Severity(SeverityLevel.NORMAL)
+    void checkGetBookByIdLatencyPercentiles() {
+        int bookId = allBooks.getFirst().id();
+
+        LatencyAssertions.measure(() -> booksApi.getBookById(bookId))
+                .warmUp(3)
+                .iterations(20)
+                .verifyAllStatusCodes(SC_OK)
+                .verifyP95Below(Duration.ofSeconds(2))
+                .verifyP99Below(Duration.ofSeconds(3));
+    }
+}
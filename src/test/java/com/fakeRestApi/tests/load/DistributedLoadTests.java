@@ -0,0 +1,105 @@
+package com.fakeRestApi.tests.load;
+
+import com.fakeRestApi.load.DistributedLoadReport;
+import com.fakeRestApi.load.Journey;
+import com.fakeRestApi.load.LoadCoordinator;
+import com.fakeRestApi.load.LoadPlan;
+import com.fakeRestApi.load.LoadReport;
+import com.fakeRestApi.load.LoadStats;
+import com.fakeRestApi.load.LoadWorker;
+import com.fakeRestApi.load.Scenarios;
+import com.fakeRestApi.tests.BaseApiTest;
+import com.fakeRestApi.tests.support.StandInApiServer;
+import io.qameta.allure.Allure;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the Books and Authors mix on two worker JVMs started as separate processes on this machine,
+ * coordinated from the test JVM over a local socket.
+ */
+@Tag("load")
+@Epic("Fake REST API tests")
+@Feature("Load")
+@Story("Distributed load")
+@ExtendWith(SoftAssertionsExtension.class)
+public class DistributedLoadTests extends BaseApiTest {
+
+    private static final int WORKERS = 2;
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("load.duration", 10));
+
+    private final List<Process> workers = new ArrayList<>();
+    private StandInApiServer standIn;
+    private LoadCoordinator coordinator;
+
+    @BeforeAll
+    void startCoordinator() {
+        standIn = StandInApiServer.start(100);
+        coordinator = LoadCoordinator.listen(0);
+    }
+
+    @AfterAll
+    void stopCoordinator() throws Exception {
+        workers.forEach(Process::destroy);
+        coordinator.close();
+        standIn.close();
+    }
+
+    @Test
+    @Description("Run the journey mix on two worker processes and merge their histograms into one report")
+    void checkWorkerReportsAreMerged(SoftAssertions softly) throws Exception {
+        for (int i = 1; i <= WORKERS; i++) {
+            workers.add(startWorker("worker-" + i));
+        }
+        LoadPlan plan = new LoadPlan("booksAndAuthors", 4, DURATION, Duration.ofSeconds(1), Duration.ofMillis(20),
+                Long.MAX_VALUE, standIn.baseUrl());
+
+        DistributedLoadReport report = coordinator.run(plan, WORKERS, Duration.ofSeconds(60));
+        Allure.addAttachment("Distributed load report", "text/plain", report.report(), ".txt");
+
+        softly.assertThat(report.failures()).as("Worker failures").isEmpty();
+        softly.assertThat(report.workers()).as("Worker reports").hasSize(WORKERS);
+        report.workers().forEach((worker, workerReport) -> softly.assertThat(workerReport.journeyCount())
+                .as("Journeys run by %s", worker).isPositive());
+        for (Journey journey : Scenarios.booksAndAuthors(plan.thinkTime())) {
+            long perWorker = report.workers().values().stream()
+                    .map(r -> r.journey(journey.name()))
+                    .mapToLong(LoadStats::count)
+                    .sum();
+            softly.assertThat(report.merged().journey(journey.name()).histogram().count())
+                    .as("Merged histogram of '%s' should hold every worker's calls", journey.name())
+                    .isEqualTo(perWorker);
+        }
+        softly.assertThat(report.merged().journeyCount())
+                .isEqualTo(report.workers().values().stream().mapToLong(LoadReport::journeyCount).sum());
+        for (Process worker : workers) {
+            softly.assertThat(worker.waitFor(30, TimeUnit.SECONDS) && worker.exitValue() == 0)
+                    .as("Worker process %d should exit cleanly", worker.pid()).isTrue();
+        }
+    }
+
+    private Process startWorker(String id) throws IOException {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        return new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                "-Dload.coordinator=127.0.0.1:" + coordinator.port(),
+                "-Dload.worker.id=" + id,
+                LoadWorker.class.getName())
+                .inheritIO()
+                .start();
+    }
+}
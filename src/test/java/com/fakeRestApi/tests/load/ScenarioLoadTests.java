@@ -0,0 +1,103 @@
+package com.fakeRestApi.tests.load;
+
+import com.fakeRestApi.load.Journey;
+import com.fakeRestApi.load.LoadReport;
+import com.fakeRestApi.load.LoadRunner;
+import com.fakeRestApi.load.Scenarios;
+import com.fakeRestApi.models.Book;
+import com.fakeRestApi.tests.BaseApiTest;
+import com.fakeRestApi.tests.support.StandInExtension;
+import com.fakeRestApi.utils.TestDataManager;
+import io.qameta.allure.Allure;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Runs the weighted Books and Authors journey mix of {@link Scenarios}.
+ * Targets a local stand-in unless {@code base.api.url} is set explicitly.
+ */
+@Slf4j
+@Tag("load")
+@Epic("Fake REST API tests")
+@Feature("Load")
+@Story("Weighted journey mix")
+@ExtendWith(SoftAssertionsExtension.class)
+public class ScenarioLoadTests extends BaseApiTest {
+
+    private static final int USERS = Integer.getInteger("load.users", 16);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("load.duration", 10));
+    private static final Duration RAMP_UP = Duration.ofSeconds(Integer.getInteger("load.rampUp", 2));
+    private static final Duration THINK_TIME = Duration.ofMillis(Integer.getInteger("load.thinkTime", 50));
+    private static final double MAX_ERROR_RATE = 0.01;
+
+    @RegisterExtension
+    final StandInExtension standIn = StandInExtension.seeded(100)
+            .onlyIf(() -> System.getProperty("base.api.url") == null);
+
+    @Test
+    @Description("Run the weighted Books and Authors journey mix and check error rate and journey proportions")
+    void checkWeightedJourneyMix(SoftAssertions softly) {
+        List<Journey> mix = Scenarios.booksAndAuthors(THINK_TIME);
+
+        LoadReport report = LoadRunner.of(mix)
+                .users(USERS)
+                .rampUp(RAMP_UP)
+                .duration(DURATION)
+                .run();
+        Allure.addAttachment("Load report", "text/plain", report.report(), ".txt");
+
+        int totalWeight = mix.stream().mapToInt(Journey::weight).sum();
+        softly.assertThat(report.journeyCount()).as("Journeys executed").isGreaterThan(totalWeight * 10L);
+        for (Journey journey : mix) {
+            softly.assertThat(report.journey(journey.name()).errorRate())
+                    .as("Error rate of '%s'", journey.name())
+                    .isLessThanOrEqualTo(MAX_ERROR_RATE);
+            softly.assertThat((double) report.journey(journey.name()).count() / report.journeyCount())
+                    .as("Share of '%s' in the mix", journey.name())
+                    .isCloseTo((double) journey.weight() / totalWeight, within(0.1));
+        }
+    }
+
+    @Test
+    @Description("Verify that finally steps run after a failed step while the remaining steps are skipped")
+    void checkFinallyStepsRunAfterFailedStep(SoftAssertions softly) {
+        int iterations = 5;
+        Journey journey = Journey.named("failing write")
+                .step("createBook", ctx -> ctx.books().createBook(ctx.put("book", TestDataManager.bookWithValidAllFields())))
+                .step("getMissingBook", ctx -> ctx.books().getBookById(Integer.MAX_VALUE))
+                .step("updateBook", ctx -> ctx.books().updateBook(ctx.<Book>get("book").id(), ctx.<Book>get("book")))
+                .finallyStep("deleteBook", ctx -> ctx.books().deleteBook(ctx.<Book>get("book").id()))
+                .build();
+
+        LoadReport report = LoadRunner.of(journey)
+                .users(1)
+                .rampUp(Duration.ZERO)
+                .duration(Duration.ofMinutes(1))
+                .iterations(iterations)
+                .run();
+
+        softly.assertThat(report.journey(journey.name()).errors()).as("Every journey should fail").isEqualTo(iterations);
+        softly.assertThat(report.step(journey.name(), "getMissingBook").errors())
+                .as("Failing step errors").isEqualTo(iterations);
+        softly.assertThat(report.step(journey.name(), "updateBook").count())
+                .as("Steps after the failed one should be skipped").isZero();
+        softly.assertThat(report.step(journey.name(), "deleteBook").count())
+                .as("Finally step should run in every journey").isEqualTo(iterations);
+        softly.assertThat(report.step(journey.name(), "deleteBook").errors())
+                .as("Finally step errors").isZero();
+    }
+}
@@ -0,0 +1,155 @@
+package com.fakeRestApi.tests.metrics;
+
+import com.fakeRestApi.metrics.PerfHistory;
+import com.fakeRestApi.metrics.PerfRegressionCheck;
+import com.fakeRestApi.tests.BaseApiTest;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.Story;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Epic("Fake REST API tests")
+@Feature("Performance history")
+@Story("Regression check")
+public class PerfRegressionCheckTests extends BaseApiTest {
+
+    private static final String TARGET = "https://api.example.com/api/v1";
+    private static final String GET_BOOK = "GET /Books/{id}";
+
+    private final PerfRegressionCheck check = new PerfRegressionCheck(3, 2, 3.0, 0.2, 5);
+
+    @Test
+    @Description("Verify that an empty history evaluates to no run and no regressions")
+    @Severity(SeverityLevel.MINOR)
+    void checkEmptyHistoryHasNoRun() {
+        PerfRegressionCheck.Evaluation evaluation = check.evaluate(List.of());
+
+        assertThat(evaluation.run()).isNull();
+        assertThat(evaluation.regressions()).isEmpty();
+    }
+
+    @Test
+    @Description("Verify that a p95 above both the z-score and the minimum change limit is a regression")
+    @Severity(SeverityLevel.NORMAL)
+    void checkLatencyAboveBothLimitsRegresses() {
+        List<PerfHistory.Entry> history = new ArrayList<>();
+        history.add(entry("r1", TARGET, 10, 100));
+        history.add(entry("r2", TARGET, 10, 102));
+        history.add(entry("r3", TARGET, 10, 98));
+        history.add(entry("r4", TARGET, 10, 130));
+
+        PerfRegressionCheck.Evaluation evaluation = check.evaluate(history);
+
+        assertThat(evaluation.run()).isEqualTo("r4");
+        assertThat(evaluation.baselineRuns()).isEqualTo(3);
+        assertThat(evaluation.regressions()).hasSize(2)
+                .allSatisfy(regression -> assertThat(regression).contains(GET_BOOK, TARGET));
+    }
+
+    @Test
+    @Description("Verify that a change beyond the z-score limit but within the minimum relative change is tolerated")
+    @Severity(SeverityLevel.NORMAL)
+    void checkSmallChangeOnStableEndpointIsTolerated() {
+        List<PerfHistory.Entry> history = List.of(
+                entry("r1", TARGET, 10, 100),
+                entry("r2", TARGET, 10, 100),
+                entry("r3", TARGET, 10, 100),
+                entry("r4", TARGET, 10, 115));
+
+        assertThat(check.evaluate(history).regressions()).isEmpty();
+    }
+
+    @Test
+    @Description("Verify that a change beyond the minimum relative change but within the z-score limit is tolerated")
+    @Severity(SeverityLevel.NORMAL)
+    void checkChangeWithinNoiseIsTolerated() {
+        List<PerfHistory.Entry> history = List.of(
+                entry("r1", TARGET, 10, 50),
+                entry("r2", TARGET, 10, 150),
+                entry("r3", TARGET, 10, 100),
+                entry("r4", TARGET, 10, 200));
+
+        assertThat(check.evaluate(history).regressions()).isEmpty();
+    }
+
+    @Test
+    @Description("Verify that only the last runs within the window form the baseline")
+    @Severity(SeverityLevel.NORMAL)
+    void checkBaselineIsLimitedToWindow() {
+        List<PerfHistory.Entry> history = List.of(
+                entry("r1", TARGET, 10, 400),
+                entry("r2", TARGET, 10, 100),
+                entry("r3", TARGET, 10, 100),
+                entry("r4", TARGET, 10, 100),
+                entry("r5", TARGET, 10, 200));
+
+        PerfRegressionCheck.Evaluation evaluation = check.evaluate(history);
+
+        assertThat(evaluation.baselineRuns()).isEqualTo(3);
+        assertThat(evaluation.regressions()).as("Slow run outside the window must not widen the baseline").isNotEmpty();
+    }
+
+    @Test
+    @Description("Verify that runs with too few calls do not count and endpoints without enough baseline runs are skipped")
+    @Severity(SeverityLevel.NORMAL)
+    void checkMinCallsAndMinRunsFilterBaseline() {
+        List<PerfHistory.Entry> history = List.of(
+                entry("r1", TARGET, 2, 100),
+                entry("r2", TARGET, 2, 100),
+                entry("r3", TARGET, 10, 100),
+                entry("r4", TARGET, 10, 500));
+
+        PerfRegressionCheck.Evaluation evaluation = check.evaluate(history);
+
+        assertThat(evaluation.regressions()).isEmpty();
+        assertThat(evaluation.insufficient()).singleElement().asString().contains(GET_BOOK, "1 run(s)");
+        assertThat(check.evaluate(List.of(entry("r1", TARGET, 10, 100), entry("r2", TARGET, 4, 500))).insufficient())
+                .as("Current run below minCalls is not checked at all")
+                .isEmpty();
+    }
+
+    @Test
+    @Description("Verify that endpoints are compared per target and forked JVMs of a run are merged")
+    @Severity(SeverityLevel.NORMAL)
+    void checkTargetsAreSeparateAndForksMerged() {
+        String staging = "https://staging.example.com/api/v1";
+        List<PerfHistory.Entry> history = List.of(
+                entry("r1", TARGET, 10, 100),
+                entry("r2", TARGET, 10, 100),
+                entry("r2", staging, 10, 900),
+                entry("r3", TARGET, 10, 100),
+                entry("r4", TARGET, 10, 100),
+                entry("r4", TARGET, 30, 100),
+                entry("r4", staging, 10, 900));
+
+        PerfRegressionCheck.Evaluation evaluation = check.evaluate(history);
+
+        assertThat(evaluation.regressions()).as("Slow staging target must not affect the production baseline").isEmpty();
+        assertThat(evaluation.insufficient()).singleElement().asString().contains(staging);
+    }
+
+    @Test
+    @Description("Verify that a drop in throughput is not treated as a regression")
+    @Severity(SeverityLevel.MINOR)
+    void checkThroughputIsNotChecked() {
+        List<PerfHistory.Entry> history = List.of(
+                new PerfHistory.Entry("r1", Instant.EPOCH, GET_BOOK, 10, 50, 50, 100, 100, 500, TARGET),
+                new PerfHistory.Entry("r2", Instant.EPOCH, GET_BOOK, 10, 50, 50, 100, 100, 500, TARGET),
+                new PerfHistory.Entry("r3", Instant.EPOCH, GET_BOOK, 10, 50, 50, 100, 100, 5, TARGET));
+
+        assertThat(check.evaluate(history).regressions()).isEmpty();
+    }
+
+    private static PerfHistory.Entry entry(String run, String target, long count, double p95Ms) {
+        return new PerfHistory.Entry(run, Instant.EPOCH, GET_BOOK, count, p95Ms / 2, p95Ms / 2, p95Ms, p95Ms, 10, target);
+    }
+}
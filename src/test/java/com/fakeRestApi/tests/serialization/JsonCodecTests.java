@@ -0,0 +1,69 @@
+package com.fakeRestApi.tests.serialization;
+
+import com.fakeRestApi.models.Book;
+import com.fakeRestApi.serialization.JsonCodec;
+import com.fakeRestApi.serialization.JsonCodecs;
+import com.fakeRestApi.tests.BaseApiTest;
+import com.fasterxml.jackson.core.JsonParseException;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.Story;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Epic("Fake REST API tests")
+@Feature("Response parsing")
+@Story("Generated JSON codecs")
+public class JsonCodecTests extends BaseApiTest {
+
+    private final JsonCodec<Book> codec = JsonCodecs.find(Book.class);
+
+    @Test
+    @Description("Verify that a book read through its generated codec is written back unchanged, with nulls left out")
+    @Severity(SeverityLevel.NORMAL)
+    void checkBookRoundTrip() {
+        String json = "{\"id\":1,\"title\":\"Book 1\",\"pageCount\":100,\"publishDate\":\"2024-01-01T00:00:00Z\"}";
+
+        Book book = JsonCodecs.read(codec, json(json));
+
+        assertThat(book).isEqualTo(Book.builder().id(1).title("Book 1").pageCount(100)
+                .publishDate("2024-01-01T00:00:00Z").build());
+        assertThat(JsonCodecs.writeString(codec, book)).isEqualTo(json);
+    }
+
+    @Test
+    @Description("Verify that null fields read as null and unknown fields are skipped")
+    @Severity(SeverityLevel.MINOR)
+    void checkNullAndUnknownFields() {
+        Book book = JsonCodecs.read(codec, json("{\"id\":null,\"title\":null,\"extra\":{\"id\":\"x\"},\"pageCount\":5}"));
+
+        assertThat(book).isEqualTo(Book.builder().pageCount(5).build());
+    }
+
+    @ParameterizedTest(name = "Field {0} should be rejected")
+    @ValueSource(strings = {"\"id\":\"1\"", "\"id\":1.5", "\"id\":true", "\"pageCount\":[1]",
+            "\"title\":1", "\"title\":false", "\"publishDate\":{}"})
+    @Description("Verify that field values of another type are rejected instead of coerced")
+    @Severity(SeverityLevel.NORMAL)
+    void checkMismatchedFieldsAreRejected(String field) {
+        assertThatThrownBy(() -> JsonCodecs.read(codec, json("{" + field + "}")))
+                .isInstanceOf(UncheckedIOException.class)
+                .cause()
+                .isInstanceOf(JsonParseException.class)
+                .hasMessageContaining("of Book but was");
+    }
+
+    private static byte[] json(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
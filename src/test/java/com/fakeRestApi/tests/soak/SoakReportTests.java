@@ -0,0 +1,141 @@
+package com.fakeRestApi.tests.soak;
+
+import com.fakeRestApi.soak.SoakReport;
+import com.fakeRestApi.soak.TelemetrySample;
+import com.fakeRestApi.tests.BaseApiTest;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.Story;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Epic("Fake REST API tests")
+@Feature("Soak")
+@Story("Growth analysis")
+public class SoakReportTests extends BaseApiTest {
+
+    private static final String HEAP = "heap after GC (MB)";
+    private static final String THREADS = "threads";
+    private static final String FILE_DESCRIPTORS = "open file descriptors";
+    private static final String GC_TIME = "GC time (ms/min)";
+    private static final long MB = 1024 * 1024;
+    private static final int SEGMENTS = 5;
+
+    @Test
+    @Description("Verify that samples are split into segments reduced to their lowest value, so short peaks are ignored")
+    @Severity(SeverityLevel.NORMAL)
+    void checkSegmentsTakeLowestValue() {
+        List<TelemetrySample> samples = samples(10, i -> (i % 2 == 0 ? 100 + i : 300) * MB, i -> 20, i -> 50, i -> 0);
+
+        SoakReport report = SoakReport.analyze(samples, SEGMENTS, 0.1);
+
+        assertThat(trend(report, HEAP).segments()).containsExactly(100, 102, 104, 106, 108);
+        assertThat(report.growing()).as("8% heap growth stays below the 10% minimum").isEmpty();
+    }
+
+    @Test
+    @Description("Verify that metrics rising from every segment to the next are flagged and steady ones are not")
+    @Severity(SeverityLevel.NORMAL)
+    void checkMonotonicGrowthIsFlagged() {
+        List<TelemetrySample> samples = samples(10, i -> (100 + 10L * i) * MB, i -> 20, i -> 50, i -> 0);
+
+        SoakReport report = SoakReport.analyze(samples, SEGMENTS, 0.1);
+
+        assertThat(trend(report, HEAP).segments()).containsExactly(100, 120, 140, 160, 180);
+        assertThat(report.growing()).extracting(SoakReport.Trend::metric).containsExactly(HEAP);
+        assertThat(report.report()).contains("GROWING");
+    }
+
+    @Test
+    @Description("Verify that growth interrupted by a drop between segments is not flagged")
+    @Severity(SeverityLevel.NORMAL)
+    void checkNonMonotonicGrowthIsNotFlagged() {
+        long[] heapMb = {100, 100, 120, 120, 110, 110, 130, 130, 140, 140};
+        List<TelemetrySample> samples = samples(10, i -> heapMb[i] * MB, i -> 20, i -> 50, i -> 0);
+
+        SoakReport report = SoakReport.analyze(samples, SEGMENTS, 0.1);
+
+        assertThat(trend(report, HEAP).last()).isGreaterThan(trend(report, HEAP).first() * 1.1);
+        assertThat(report.growing()).isEmpty();
+    }
+
+    @Test
+    @Description("Verify that growth must exceed the minimum relative growth, measured from at least 1 for metrics starting at 0")
+    @Severity(SeverityLevel.NORMAL)
+    void checkMinGrowthFloor() {
+        List<TelemetrySample> samples = samples(10, i -> (i / 2) * 10 * 1024L, i -> 10 + i / 2, i -> 50, i -> 0);
+
+        assertThat(SoakReport.analyze(samples, SEGMENTS, 0.1).growing())
+                .as("Threads grow by 40%, heap from 0 to 0.04 MB stays below 10% of 1 MB")
+                .extracting(SoakReport.Trend::metric)
+                .containsExactly(THREADS);
+        assertThat(SoakReport.analyze(samples, SEGMENTS, 0.5).growing())
+                .as("40% thread growth stays below a 50% minimum")
+                .isEmpty();
+    }
+
+    @Test
+    @Description("Verify that GC time is compared as a rate per minute within each segment")
+    @Severity(SeverityLevel.NORMAL)
+    void checkGcTimeRateGrowth() {
+        long[] gcMillis = new long[10];
+        for (int i = 1; i < gcMillis.length; i++) {
+            gcMillis[i] = gcMillis[i - 1] + 10L * (i / 2 + 1);
+        }
+        List<TelemetrySample> samples = samples(10, i -> 100 * MB, i -> 20, i -> 50, i -> gcMillis[i]);
+
+        SoakReport report = SoakReport.analyze(samples, SEGMENTS, 0.1);
+
+        assertThat(trend(report, GC_TIME).segments()).containsExactly(60, 120, 180, 240, 300);
+        assertThat(report.growing()).extracting(SoakReport.Trend::metric).containsExactly(GC_TIME);
+    }
+
+    @Test
+    @Description("Verify that nothing is flagged with fewer than two samples per segment")
+    @Severity(SeverityLevel.MINOR)
+    void checkTooFewSamplesAreNotFlagged() {
+        List<TelemetrySample> samples = samples(9, i -> (100 + 50L * i) * MB, i -> 20 + 5 * i, i -> 50 + 10 * i, i -> 0);
+
+        assertThat(SoakReport.analyze(samples, SEGMENTS, 0.1).growing()).isEmpty();
+        assertThatThrownBy(() -> SoakReport.analyze(samples, 1, 0.1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @Description("Verify that file descriptors are left out where the platform does not report them")
+    @Severity(SeverityLevel.MINOR)
+    void checkUnreportedFileDescriptorsAreLeftOut() {
+        List<TelemetrySample> samples = samples(10, i -> 100 * MB, i -> 20, i -> -1, i -> 0);
+
+        assertThat(SoakReport.analyze(samples, SEGMENTS, 0.1).trends())
+                .extracting(SoakReport.Trend::metric)
+                .containsExactly(HEAP, THREADS, GC_TIME);
+    }
+
+    private static SoakReport.Trend trend(SoakReport report, String metric) {
+        return report.trends().stream().filter(trend -> trend.metric().equals(metric)).findFirst().orElseThrow();
+    }
+
+    /**
+     * Builds samples taken every 10 seconds from per-index values.
+     */
+    private static List<TelemetrySample> samples(int count, IntToLongFunction heapAfterGcBytes, IntToLongFunction threads,
+                                                 IntToLongFunction fileDescriptors, IntToLongFunction gcPauseMillis) {
+        List<TelemetrySample> samples = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            samples.add(new TelemetrySample(Duration.ofSeconds(10L * i), heapAfterGcBytes.applyAsLong(i),
+                    heapAfterGcBytes.applyAsLong(i), gcPauseMillis.applyAsLong(i), 0,
+                    (int) threads.applyAsLong(i), fileDescriptors.applyAsLong(i)));
+        }
+        return samples;
+    }
+}
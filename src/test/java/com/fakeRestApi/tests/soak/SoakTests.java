@@ -0,0 +1,114 @@
+package com.fakeRestApi.tests.soak;
+
+import com.fakeRestApi.load.LoadReport;
+import com.fakeRestApi.load.LoadRunner;
+import com.fakeRestApi.load.Scenarios;
+import com.fakeRestApi.soak.SoakReport;
+import com.fakeRestApi.soak.TelemetrySampler;
+import com.fakeRestApi.tests.BaseApiTest;
+import com.fakeRestApi.tests.support.StandInExtension;
+import io.qameta.allure.Allure;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+/**
+ * Repeats test classes and/or a load scenario for a long time while sampling heap after GC, GC time, threads and open
+ * file descriptors, and fails if any of them grows monotonically. Catches leaks in the client stack that a single run
+ * never shows, e.g. filters, Allure lifecycle state or responses kept alive across tests.
+ *
+ * <p>Configured through system properties: {@code soak.duration} (seconds, default 600), {@code soak.classes}
+ * (comma-separated test classes run each round in-process, without auto-registered listeners), {@code soak.scenario}
+ * (load mix run each round, default booksAndAuthors, {@code none} to skip), {@code soak.users} (default 4),
+ * {@code soak.round} (scenario seconds per round, default 30), {@code soak.sampleInterval} (seconds, default 10),
+ * {@code soak.segments} (default 5) and {@code soak.minGrowth} (relative, default 0.1).
+ * Without an explicit {@code base.api.url} the scenario runs against a local stand-in.
+ */
+@Slf4j
+@Tag("soak")
+@Epic("Fake REST API tests")
+@Feature("Soak")
+@Story("Resource growth over time")
+public class SoakTests extends BaseApiTest {
+
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("soak.duration", 600));
+    private static final Duration ROUND = Duration.ofSeconds(Long.getLong("soak.round", 30));
+    private static final Duration SAMPLE_INTERVAL = Duration.ofSeconds(Long.getLong("soak.sampleInterval", 10));
+    private static final String SCENARIO = System.getProperty("soak.scenario", "booksAndAuthors");
+    private static final int USERS = Integer.getInteger("soak.users", 4);
+    private static final int SEGMENTS = Integer.getInteger("soak.segments", 5);
+    private static final double MIN_GROWTH = Double.parseDouble(System.getProperty("soak.minGrowth", "0.1"));
+
+    @RegisterExtension
+    final StandInExtension standIn = StandInExtension.seeded(100)
+            .onlyIf(() -> System.getProperty("base.api.url") == null && !SCENARIO.equals("none"));
+
+    @Test
+    @Description("Repeat the configured test classes and load scenario and check heap, GC, threads and file descriptors for growth")
+    void checkResourcesDoNotGrowOverTime() {
+        List<String> classes = Arrays.stream(System.getProperty("soak.classes", "").split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toList();
+        assertThat(!classes.isEmpty() || !SCENARIO.equals("none"))
+                .as("soak.classes or soak.scenario must name something to repeat").isTrue();
+
+        // Without auto-registered listeners, e.g. Allure's, which would report every round into the outer run's results
+        Launcher launcher = LauncherFactory.create(LauncherConfig.builder()
+                .enableTestExecutionListenerAutoRegistration(false)
+                .build());
+        LauncherDiscoveryRequest tests = request()
+                .selectors(classes.stream().map(DiscoverySelectors::selectClass).toList())
+                .build();
+        long testFailures = 0;
+        long journeys = 0;
+        int rounds = 0;
+
+        SoakReport report;
+        long deadline = System.nanoTime() + DURATION.toNanos();
+        try (TelemetrySampler sampler = new TelemetrySampler(SAMPLE_INTERVAL, true).start()) {
+            while (System.nanoTime() - deadline < 0) {
+                rounds++;
+                if (!classes.isEmpty()) {
+                    SummaryGeneratingListener summary = new SummaryGeneratingListener();
+                    launcher.execute(tests, summary);
+                    testFailures += summary.getSummary().getTotalFailureCount();
+                }
+                if (!SCENARIO.equals("none")) {
+                    Duration remaining = Duration.ofNanos(deadline - System.nanoTime());
+                    LoadReport round = LoadRunner.of(Scenarios.named(SCENARIO, Duration.ofMillis(50)))
+                            .users(USERS)
+                            .duration(remaining.compareTo(ROUND) < 0 ? remaining : ROUND)
+                            .run();
+                    journeys += round.journeyCount();
+                }
+                log.info("Soak round {} done, {} test failures and {} journeys so far", rounds, testFailures, journeys);
+            }
+            sampler.close();
+            report = SoakReport.analyze(sampler.samples(), SEGMENTS, MIN_GROWTH);
+        }
+
+        String summary = String.format("%d rounds, %d test failures, %d journeys%n%s", rounds, testFailures, journeys, report.report());
+        log.info("Soak telemetry:\n{}", summary);
+        Allure.addAttachment("Soak telemetry", "text/plain", summary, ".txt");
+        assertThat(report.growing()).as("Metrics growing monotonically over the soak run").isEmpty();
+    }
+}
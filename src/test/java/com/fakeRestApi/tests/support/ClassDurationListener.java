@@ -0,0 +1,51 @@
+package com.fakeRestApi.tests.support;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Measures the wall-clock duration of every test class and stores it in {@link ClassDurations}
+ * for {@link DurationClassOrderer} and the Gradle fork sharding of the next runs.
+ * Like {@link PerfHistoryListener}, it only records when {@code perf.history.record} is true, which only the Gradle
+ * {@code test} task sets, so the classes of the benchmark, load, soak and timing tasks do not distort the shards.
+ */
+@Slf4j
+public class ClassDurationListener implements TestExecutionListener {
+
+    private final Map<String, Long> startedAt = new ConcurrentHashMap<>();
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        className(testIdentifier).ifPresent(name -> startedAt.put(name, System.nanoTime()));
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        className(testIdentifier).ifPresent(name -> {
+            Long start = startedAt.remove(name);
+            if (start != null) durations.put(name, (System.nanoTime() - start) / 1_000_000);
+        });
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (!Boolean.getBoolean("perf.history.record")) return;
+        ClassDurations.update(ClassDurations.defaultFile(), durations);
+        log.info("Recorded durations of {} test classes", durations.size());
+    }
+
+    private static Optional<String> className(TestIdentifier testIdentifier) {
+        return testIdentifier.getSource()
+                .filter(ClassSource.class::isInstance)
+                .map(source -> ((ClassSource) source).getClassName());
+    }
+}
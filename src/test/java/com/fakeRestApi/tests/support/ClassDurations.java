@@ -0,0 +1,87 @@
+package com.fakeRestApi.tests.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Recorded wall-clock durations of test classes, stored as {@code className=millis} properties.
+ * New measurements are blended into previous ones with an exponential moving average,
+ * so a single slow run does not reshuffle the schedule.
+ */
+public final class ClassDurations {
+
+    public static final String FILE_NAME = "class-durations.properties";
+    private static final double SMOOTHING = 0.5;
+
+    /** Private constructor to prevent instantiation */
+    private ClassDurations() {}
+
+    /**
+     * Returns the durations file, honoring the {@code perf.history.dir} system property.
+     * @return path of the durations file
+     */
+    public static Path defaultFile() {
+        return Path.of(System.getProperty("perf.history.dir", "build/perf-history"), FILE_NAME);
+    }
+
+    /**
+     * Loads recorded durations.
+     * @param file durations file
+     * @return durations in milliseconds keyed by class name, empty if the file does not exist
+     */
+    public static Map<String, Long> load(Path file) {
+        Map<String, Long> durations = new HashMap<>();
+        if (Files.notExists(file)) return durations;
+        try (InputStream input = Files.newInputStream(file)) {
+            Properties properties = new Properties();
+            properties.load(input);
+            properties.forEach((name, millis) -> durations.put((String) name, Long.parseLong((String) millis)));
+        } catch (IOException | NumberFormatException e) {
+            return new HashMap<>();
+        }
+        return durations;
+    }
+
+    /**
+     * Blends new measurements into the durations file under an exclusive file lock,
+     * so parallel test forks can update it concurrently.
+     * @param file durations file
+     * @param measured durations of this run in milliseconds keyed by class name
+     */
+    public static void update(Path file, Map<String, Long> measured) {
+        if (measured.isEmpty()) return;
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                Properties properties = new Properties();
+                properties.load(Channels.newInputStream(channel));
+                measured.forEach((name, millis) -> {
+                    String previous = properties.getProperty(name);
+                    long blended = previous == null
+                            ? millis
+                            : Math.round(SMOOTHING * millis + (1 - SMOOTHING) * Long.parseLong(previous));
+                    properties.setProperty(name, Long.toString(blended));
+                });
+                channel.truncate(0);
+                channel.position(0);
+                OutputStream output = Channels.newOutputStream(channel);
+                properties.store(output, "Test class durations in milliseconds");
+                output.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to update test class durations in " + file, e);
+        }
+    }
+}
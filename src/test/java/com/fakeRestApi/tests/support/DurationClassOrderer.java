@@ -0,0 +1,24 @@
+package com.fakeRestApi.tests.support;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * Orders test classes longest-first using durations recorded by previous runs.
+ * Classes without a recorded duration are scheduled first, since their cost is unknown.
+ * Running the longest classes early keeps the tail of a (forked) run short.
+ */
+public class DurationClassOrderer implements ClassOrderer {
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        Map<String, Long> durations = ClassDurations.load(ClassDurations.defaultFile());
+        context.getClassDescriptors().sort(Comparator.comparingLong(
+                (ClassDescriptor descriptor) -> durations.getOrDefault(descriptor.getTestClass().getName(), Long.MAX_VALUE))
+                .reversed());
+    }
+}
@@ -0,0 +1,38 @@
+package com.fakeRestApi.tests.support;
+
+import com.fakeRestApi.metrics.EndpointMetrics;
+import com.fakeRestApi.metrics.EndpointSummary;
+import com.fakeRestApi.metrics.PerfHistory;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Appends the per-endpoint latency and throughput summary of the finished test run to the performance history,
+ * one block per target base URL; calls to {@link StandInApiServer} instances are left out.
+ * Registered through {@code META-INF/services}, so it runs once per test JVM, but only records when
+ * {@code perf.history.record} is true, which only the Gradle {@code test} task sets. That task also passes one
+ * {@code perf.run.id} per build, so forked JVMs of one build append to the same run.
+ */
+@Slf4j
+public class PerfHistoryListener implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (!Boolean.getBoolean("perf.history.record")) return;
+        Path file = PerfHistory.defaultFile();
+        String runId = System.getProperty("perf.run.id", UUID.randomUUID().toString());
+        Instant now = Instant.now();
+        for (String target : EndpointMetrics.targets()) {
+            if (StandInApiServer.served(target)) continue;
+            List<EndpointSummary> summaries = EndpointMetrics.snapshot(target);
+            PerfHistory.append(file, runId, target, now, summaries);
+            log.info("Performance summary of {} for run {} appended to {}", target, runId, file.toAbsolutePath());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.fakeRestApi.tests.support;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test method as a performance test.
+ * The method body is executed for the warm-up rounds first, then for the measured iterations
+ * (optionally on several threads), and the run fails if any configured percentile threshold is exceeded.
+ * Methods should use plain assertions, since parameters such as SoftAssertions are shared across iterations.
+ */
+@Test
+@ExtendWith(PerfTestExtension.class)
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PerfTest {
+
+    /** Number of unmeasured executions before sampling */
+    int warmUp() default 3;
+
+    /** Number of measured executions */
+    int iterations() default 20;
+
+    /**
+     * Number of threads sharing the measured executions. With 1 they run on the test thread; with more they run on a
+     * separate pool, whose CPU time and allocation the per-test cost report does not include.
+     */
+    int threads() default 1;
+
+    /** Maximum allowed median latency in milliseconds, negative to disable */
+    long p50Millis() default -1;
+
+    /** Maximum allowed 95th percentile latency in milliseconds, negative to disable */
+    long p95Millis() default -1;
+
+    /** Maximum allowed 99th percentile latency in milliseconds, negative to disable */
+    long p99Millis() default -1;
+
+    /** Maximum allowed share of failed executions, from 0.0 to 1.0 */
+    double maxErrorRate() default 0.0;
+}
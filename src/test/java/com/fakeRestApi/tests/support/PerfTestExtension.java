@@ -0,0 +1,128 @@
+package com.fakeRestApi.tests.support;
+
+import com.fakeRestApi.metrics.LatencyHistogram;
+import io.qameta.allure.Allure;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Executes {@link PerfTest} methods repeatedly, collects a latency histogram and throughput,
+ * attaches the results to Allure and fails on configured error rate or percentile thresholds.
+ */
+@Slf4j
+public class PerfTestExtension implements InvocationInterceptor {
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation,
+                                    ReflectiveInvocationContext<Method> invocationContext,
+                                    ExtensionContext extensionContext) throws Throwable {
+        PerfTest config = extensionContext.getRequiredTestMethod().getAnnotation(PerfTest.class);
+        Method method = invocationContext.getExecutable();
+        Object target = invocationContext.getTarget().orElseThrow();
+        Object[] arguments = invocationContext.getArguments().toArray();
+        method.setAccessible(true);
+        invocation.skip();
+
+        for (int i = 0; i < config.warmUp(); i++) {
+            invokeOnce(method, target, arguments);
+        }
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+        AtomicInteger remaining = new AtomicInteger(config.iterations());
+
+        Runnable measure = () -> {
+            while (remaining.getAndDecrement() > 0) {
+                long callStart = System.nanoTime();
+                try {
+                    invokeOnce(method, target, arguments);
+                } catch (Throwable e) {
+                    errors.incrementAndGet();
+                    firstError.compareAndSet(null, e);
+                } finally {
+                    histogram.recordNanos(System.nanoTime() - callStart);
+                }
+            }
+        };
+
+        long start = System.nanoTime();
+        int threads = Math.max(1, config.threads());
+        if (threads == 1) {
+            // On the test thread, so that the per-test cost meter sees the measured iterations
+            measure.run();
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<?>> workers = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    workers.add(executor.submit(measure));
+                }
+                for (Future<?> worker : workers) {
+                    worker.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        String report = report(extensionContext.getDisplayName(), config, histogram, errors.get(), elapsed);
+        log.info("Performance results:\n{}", report);
+        Allure.addAttachment("Performance results", "text/plain", report, ".txt");
+
+        verify(config, histogram, errors.get(), firstError.get());
+    }
+
+    private static void invokeOnce(Method method, Object target, Object[] arguments) throws Throwable {
+        try {
+            method.invoke(target, arguments);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static String report(String name, PerfTest config, LatencyHistogram histogram, int errors, Duration elapsed) {
+        double throughput = histogram.count() / Math.max(elapsed.toNanos() / 1_000_000_000.0, 1e-9);
+        return String.format("test=%s%nwarmUp=%d iterations=%d threads=%d%nlatency(ms): %s%nerrors=%d elapsed=%d ms throughput=%.2f ops/s%n",
+                name, config.warmUp(), config.iterations(), config.threads(),
+                histogram.summary(), errors, elapsed.toMillis(), throughput);
+    }
+
+    private static void verify(PerfTest config, LatencyHistogram histogram, int errors, Throwable firstError) {
+        double errorRate = config.iterations() == 0 ? 0 : (double) errors / config.iterations();
+        if (errorRate > config.maxErrorRate()) {
+            throw new AssertionError(String.format("Error rate %.2f exceeds allowed %.2f (%d of %d executions failed)",
+                    errorRate, config.maxErrorRate(), errors, config.iterations()), firstError);
+        }
+
+        List<String> violations = new ArrayList<>();
+        checkPercentile(violations, histogram, 50, config.p50Millis());
+        checkPercentile(violations, histogram, 95, config.p95Millis());
+        checkPercentile(violations, histogram, 99, config.p99Millis());
+        if (!violations.isEmpty()) {
+            throw new AssertionError("Latency thresholds exceeded: " + String.join("; ", violations));
+        }
+    }
+
+    private static void checkPercentile(List<String> violations, LatencyHistogram histogram, double percentile, long maxMillis) {
+        if (maxMillis < 0) return;
+        long actual = histogram.percentile(percentile).toMillis();
+        if (actual > maxMillis) {
+            violations.add(String.format("p%.0f=%d ms > %d ms", percentile, actual, maxMillis));
+        }
+    }
+}
@@ -0,0 +1,474 @@
+package com.fakeRestApi.tests.support;
+
+import com.fakeRestApi.metrics.EndpointMetrics;
+import com.fakeRestApi.models.Author;
+import com.fakeRestApi.models.Book;
+import com.fakeRestApi.serialization.JsonCodecs;
+import com.fakeRestApi.serialization.JsonMappers;
+import com.fakeRestApi.utils.TestDataManager;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.server.SecureRequestCustomizer;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.SslConnectionFactory;
+import org.eclipse.jetty.util.Callback;
+import org.eclipse.jetty.util.ssl.SslContextFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * In-memory stand-in for the Books and Authors endpoints of the Fake REST API, for offline transport tests.
+ * Serves HTTP/1.1 and cleartext HTTP/2 (h2c, both through the upgrade and with prior knowledge) on a random local port,
+ * and optionally HTTP/1.1 over TLS with a self-signed certificate for {@code localhost} on a second one.
+ * Like the real API, POST and PUT echo the request body; stored entities are kept per id and authors can be listed by book.
+ * GET requests can be made to stall periodically to simulate slow outliers, and the stand-in can be limited to a number
+ * of requests served at once, queueing the rest, to simulate a target with fixed capacity. Response bodies can be
+ * compressed when the request accepts the configured content coding. For upload benchmarks, POST and PUT bodies can be
+ * counted and discarded instead of stored, and the framing and size of the last one are recorded.
+ */
+@Slf4j
+public class StandInApiServer implements AutoCloseable {
+
+    private static final String BASE_PATH = "/api/v1";
+    private static final Pattern RESOURCE = Pattern.compile(BASE_PATH + "/(Books|Authors)(?:/(-?\\d+))?");
+    private static final Pattern AUTHORS_BY_BOOK = Pattern.compile(BASE_PATH + "/Authors/authors/books/(-?\\d+)");
+    /** Base URLs of all stand-ins started in this JVM, so their calls can be told apart from calls to the real API */
+    private static final Set<String> BASE_URLS = ConcurrentHashMap.newKeySet();
+
+    private final Server server;
+    private final ServerConnector connector;
+    private final ServerConnector tlsConnector;
+    private final Map<String, NavigableMap<Integer, byte[]>> resources = Map.of(
+            "Books", new ConcurrentSkipListMap<>(),
+            "Authors", new ConcurrentSkipListMap<>());
+    private final Set<HttpVersion> versions = ConcurrentHashMap.newKeySet();
+    private final Set<SocketAddress> clients = ConcurrentHashMap.newKeySet();
+    private final AtomicLong requests = new AtomicLong();
+    private volatile int stallEvery;
+    private volatile Duration stall = Duration.ZERO;
+    private volatile Semaphore capacity;
+    private volatile Duration serviceTime = Duration.ZERO;
+    private volatile Compression compression = Compression.NONE;
+    private volatile boolean discardBodies;
+    private volatile Runnable uploadHook = () -> {};
+    private volatile Upload lastUpload;
+
+    /**
+     * POST or PUT body as received.
+     *
+     * @param declaredLength Content-Length of the request, -1 if it was sent without one, e.g. chunked
+     * @param receivedBytes  body bytes actually received
+     */
+    public record Upload(long declaredLength, long receivedBytes) {}
+
+    /**
+     * Content coding applied to response bodies whose request accepts it.
+     */
+    public enum Compression {
+        /** Bodies are sent as they are */
+        NONE(null),
+        /** gzip-wrapped deflate data */
+        GZIP("gzip"),
+        /** zlib-wrapped deflate data, as the deflate coding specifies */
+        DEFLATE("deflate"),
+        /** Raw deflate data without the zlib wrapper, labelled deflate, as some servers send it */
+        RAW_DEFLATE("deflate");
+
+        private final String coding;
+
+        Compression(String coding) {
+            this.coding = coding;
+        }
+
+        /**
+         * Returns the Content-Encoding value of this compression.
+         * @return content coding, null for {@link #NONE}
+         */
+        public String coding() {
+            return coding;
+        }
+    }
+
+    private StandInApiServer(int seededEntities, boolean tls) {
+        for (int id = 1; id <= seededEntities; id++) {
+            Book book = TestDataManager.generateValidBookBuilder().id(id).build();
+            Author author = TestDataManager.generateValidAuthorBuilder().id(id).idBook(id).build();
+            resources.get("Books").put(id, JsonCodecs.writeBytes(JsonCodecs.find(Book.class), book));
+            resources.get("Authors").put(id, JsonCodecs.writeBytes(JsonCodecs.find(Author.class), author));
+        }
+        server = new Server();
+        HttpConfiguration config = new HttpConfiguration();
+        connector = new ServerConnector(server, new HttpConnectionFactory(config), new HTTP2CServerConnectionFactory(config));
+        connector.setHost("127.0.0.1");
+        connector.setPort(0);
+        server.addConnector(connector);
+        tlsConnector = tls ? tlsConnector(config) : null;
+        if (tlsConnector != null) server.addConnector(tlsConnector);
+        server.setHandler(new ApiHandler());
+    }
+
+    private ServerConnector tlsConnector(HttpConfiguration config) {
+        SslContextFactory.Server ssl = new SslContextFactory.Server();
+        ssl.setKeyStorePath(SelfSignedCertificate.KEY_STORE.toString());
+        ssl.setKeyStoreType("PKCS12");
+        ssl.setKeyStorePassword(SelfSignedCertificate.PASSWORD);
+        HttpConfiguration httpsConfig = new HttpConfiguration(config);
+        httpsConfig.addCustomizer(new SecureRequestCustomizer(false));
+        ServerConnector https = new ServerConnector(server,
+                new SslConnectionFactory(ssl, HttpVersion.HTTP_1_1.asString()), new HttpConnectionFactory(httpsConfig));
+        https.setHost("127.0.0.1");
+        https.setPort(0);
+        return https;
+    }
+
+    /**
+     * Starts a stand-in seeded with books and authors with ids 1..{@code seededEntities}.
+     * @param seededEntities number of books and authors to create
+     * @return started server
+     */
+    public static StandInApiServer start(int seededEntities) {
+        return start(new StandInApiServer(seededEntities, false));
+    }
+
+    /**
+     * Starts a stand-in seeded with books and authors with ids 1..{@code seededEntities} that is also served over HTTPS.
+     * Clients must trust any certificate ({@code tls.trust.all=true}).
+     * @param seededEntities number of books and authors to create
+     * @return started server
+     */
+    public static StandInApiServer startWithTls(int seededEntities) {
+        return start(new StandInApiServer(seededEntities, true));
+    }
+
+    private static StandInApiServer start(StandInApiServer standIn) {
+        try {
+            standIn.server.start();
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to start stand-in API server", e);
+        }
+        BASE_URLS.add(EndpointMetrics.target(standIn.baseUrl()));
+        if (standIn.tlsConnector != null) BASE_URLS.add(EndpointMetrics.target(standIn.httpsBaseUrl()));
+        log.info("Stand-in API server listening on {}", standIn.tlsConnector == null
+                ? standIn.baseUrl()
+                : standIn.baseUrl() + " and " + standIn.httpsBaseUrl());
+        return standIn;
+    }
+
+    /**
+     * Tells whether a target was served by a stand-in started in this JVM.
+     * @param target target key as recorded in {@link EndpointMetrics}
+     * @return true for stand-in targets
+     */
+    public static boolean served(String target) {
+        return BASE_URLS.contains(EndpointMetrics.target(target));
+    }
+
+    /**
+     * Returns the base URL to configure as {@code base.api.url}.
+     * @return base URL including the API version path
+     */
+    public String baseUrl() {
+        return "http://127.0.0.1:" + connector.getLocalPort() + BASE_PATH;
+    }
+
+    /**
+     * Returns the HTTPS base URL, by host name so that calls resolve it like a real target.
+     * @return base URL including the API version path
+     */
+    public String httpsBaseUrl() {
+        if (tlsConnector == null) throw new IllegalStateException("Stand-in was started without TLS");
+        return "https://localhost:" + tlsConnector.getLocalPort() + BASE_PATH;
+    }
+
+    /**
+     * Returns the HTTP versions requests were received with.
+     * @return protocol versions seen so far
+     */
+    public Set<HttpVersion> versions() {
+        return Set.copyOf(versions);
+    }
+
+    /**
+     * Returns the number of distinct client connections requests were received on.
+     * @return client connection count
+     */
+    public int clientConnections() {
+        return clients.size();
+    }
+
+    /**
+     * Returns the number of requests received so far.
+     * @return request count
+     */
+    public long requestCount() {
+        return requests.get();
+    }
+
+    /**
+     * Makes every n-th request wait before it is answered, if it is a GET.
+     * @param nth stall period in requests; 0 disables stalling
+     * @param duration time each stalled request waits
+     */
+    public void stallEvery(int nth, Duration duration) {
+        this.stall = duration;
+        this.stallEvery = nth;
+    }
+
+    /**
+     * Serves at most {@code concurrent} requests at once, each taking {@code duration}; further requests queue.
+     * @param concurrent requests served in parallel; 0 removes the limit
+     * @param duration service time of each request
+     */
+    public void capacity(int concurrent, Duration duration) {
+        this.serviceTime = duration;
+        this.capacity = concurrent > 0 ? new Semaphore(concurrent, true) : null;
+    }
+
+    /**
+     * Compresses non-empty response bodies of requests that list the coding in their Accept-Encoding header.
+     * @param compression compression to apply, {@link Compression#NONE} to send bodies as they are
+     */
+    public void compression(Compression compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * Counts and discards POST and PUT bodies instead of storing and echoing them; the reply then holds only the id.
+     * @param discard true to discard bodies, false to store and echo them
+     */
+    public void discardBodies(boolean discard) {
+        this.discardBodies = discard;
+    }
+
+    /**
+     * Runs a hook whenever a POST or PUT request is dispatched, before its body is read.
+     * With the default dispatch of Jetty, at least the first part of the body has arrived by then.
+     * @param hook action to run on the server thread
+     */
+    public void onUpload(Runnable hook) {
+        this.uploadHook = hook;
+    }
+
+    /**
+     * Returns the body of the last POST or PUT request.
+     * @return last upload, or null if there was none
+     */
+    public Upload lastUpload() {
+        return lastUpload;
+    }
+
+    @Override
+    public void close() throws Exception {
+        server.stop();
+    }
+
+    private final class ApiHandler extends Handler.Abstract {
+
+        @Override
+        public boolean handle(Request request, Response response, Callback callback) throws Exception {
+            versions.add(request.getConnectionMetaData().getHttpVersion());
+            clients.add(request.getConnectionMetaData().getRemoteSocketAddress());
+            long sequence = requests.incrementAndGet();
+            int period = stallEvery;
+            if (period > 0 && request.getMethod().equals("GET") && sequence % period == 0) {
+                Thread.sleep(stall.toMillis());
+            }
+            Semaphore slots = capacity;
+            if (slots != null) {
+                slots.acquire();
+                try {
+                    Thread.sleep(serviceTime.toMillis());
+                } finally {
+                    slots.release();
+                }
+            }
+
+            String path = Request.getPathInContext(request);
+            Matcher byBook = AUTHORS_BY_BOOK.matcher(path);
+            if (byBook.matches() && request.getMethod().equals("GET")) {
+                return reply(response, callback, 200, array(authorsOfBook(Integer.parseInt(byBook.group(1)))));
+            }
+            Matcher matcher = RESOURCE.matcher(path);
+            if (!matcher.matches()) return reply(response, callback, 404, null);
+            NavigableMap<Integer, byte[]> entities = resources.get(matcher.group(1));
+            Integer id = matcher.group(2) == null ? null : Integer.valueOf(matcher.group(2));
+
+            return switch (request.getMethod()) {
+                case "GET" -> id == null
+                        ? reply(response, callback, 200, array(entities.values()))
+                        : reply(response, callback, entities.containsKey(id) ? 200 : 404, entities.get(id));
+                case "POST", "PUT" -> {
+                    uploadHook.run();
+                    if (discardBodies) {
+                        long received;
+                        try (InputStream in = Content.Source.asInputStream(request)) {
+                            received = in.transferTo(OutputStream.nullOutputStream());
+                        }
+                        lastUpload = new Upload(request.getLength(), received);
+                        yield reply(response, callback, 200, ("{\"id\":" + (id != null ? id : 0) + "}")
+                                .getBytes(StandardCharsets.UTF_8));
+                    }
+                    byte[] body = bytes(Content.Source.asByteBuffer(request));
+                    lastUpload = new Upload(request.getLength(), body.length);
+                    JsonNode json = parse(body);
+                    if (json == null || !json.isObject()) yield reply(response, callback, 400, null);
+                    int key = id != null ? id : json.path("id").asInt();
+                    entities.put(key, body);
+                    yield reply(response, callback, 200, body);
+                }
+                case "DELETE" -> {
+                    if (id != null) entities.remove(id);
+                    yield reply(response, callback, 200, null);
+                }
+                default -> reply(response, callback, 405, null);
+            };
+        }
+
+        private boolean reply(Response response, Callback callback, int status, byte[] body) throws IOException {
+            response.setStatus(status);
+            if (body != null) response.getHeaders().put(HttpHeader.CONTENT_TYPE, "application/json; charset=utf-8");
+            Compression applied = compression;
+            if (body != null && body.length > 0 && applied != Compression.NONE) {
+                response.getHeaders().put(HttpHeader.VARY, HttpHeader.ACCEPT_ENCODING.asString());
+                if (accepts(response.getRequest(), applied.coding())) {
+                    body = compress(body, applied);
+                    response.getHeaders().put(HttpHeader.CONTENT_ENCODING, applied.coding());
+                }
+            }
+            response.write(true, ByteBuffer.wrap(body == null ? new byte[0] : body), callback);
+            return true;
+        }
+
+        private boolean accepts(Request request, String coding) {
+            String accepted = request.getHeaders().get(HttpHeader.ACCEPT_ENCODING);
+            if (accepted == null) return false;
+            for (String entry : accepted.split(",")) {
+                String[] parts = entry.split(";");
+                boolean refused = parts.length > 1 && parts[1].replace(" ", "").equalsIgnoreCase("q=0");
+                if (parts[0].trim().toLowerCase(Locale.ROOT).equals(coding) && !refused) return true;
+            }
+            return false;
+        }
+
+        private byte[] compress(byte[] body, Compression applied) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, applied == Compression.RAW_DEFLATE);
+            try (OutputStream stream = applied == Compression.GZIP
+                    ? new GZIPOutputStream(out)
+                    : new DeflaterOutputStream(out, deflater)) {
+                stream.write(body);
+            } finally {
+                deflater.end();
+            }
+            return out.toByteArray();
+        }
+
+        private List<byte[]> authorsOfBook(int idBook) {
+            return resources.get("Authors").values().stream()
+                    .filter(author -> {
+                        JsonNode json = parse(author);
+                        return json != null && json.path("idBook").asInt() == idBook;
+                    })
+                    .toList();
+        }
+
+        private byte[] array(Collection<byte[]> entities) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.write('[');
+            boolean first = true;
+            for (byte[] entity : entities) {
+                if (!first) out.write(',');
+                out.writeBytes(entity);
+                first = false;
+            }
+            out.write(']');
+            return out.toByteArray();
+        }
+
+        private byte[] bytes(ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        }
+
+        private JsonNode parse(byte[] body) {
+            try {
+                return JsonMappers.mapper().readTree(body);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Self-signed certificate for {@code localhost} and 127.0.0.1, generated with the keytool of the running JDK
+     * the first time a TLS stand-in starts and shared by all of them.
+     */
+    private static final class SelfSignedCertificate {
+
+        private static final String PASSWORD = "stand-in";
+        private static final Path KEY_STORE = generate();
+
+        private static Path generate() {
+            try {
+                Path dir = Files.createTempDirectory("stand-in-tls");
+                Path keyStore = dir.resolve("stand-in.p12");
+                Process keytool = new ProcessBuilder(
+                        Path.of(System.getProperty("java.home"), "bin", "keytool").toString(),
+                        "-genkeypair", "-alias", "stand-in", "-keyalg", "EC", "-groupname", "secp256r1",
+                        "-dname", "CN=localhost", "-ext", "SAN=dns:localhost,ip:127.0.0.1", "-validity", "2",
+                        "-keystore", keyStore.toString(), "-storetype", "PKCS12",
+                        "-storepass", PASSWORD, "-keypass", PASSWORD, "-noprompt")
+                        .redirectErrorStream(true)
+                        .start();
+                String output = new String(keytool.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+                if (keytool.waitFor() != 0) {
+                    throw new IllegalStateException("keytool failed to create the stand-in certificate: " + output);
+                }
+                // Deleted in reverse order of registration: the key store first, then its directory
+                dir.toFile().deleteOnExit();
+                keyStore.toFile().deleteOnExit();
+                return keyStore;
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to create the stand-in certificate", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while creating the stand-in certificate", e);
+            }
+        }
+    }
+}
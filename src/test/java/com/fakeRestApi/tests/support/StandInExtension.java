@@ -0,0 +1,113 @@
+package com.fakeRestApi.tests.support;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Starts a {@link StandInApiServer} for one test class and points the API clients at it through {@code base.api.url}
+ * and further system properties, e.g. the transport. Previous property values are restored afterwards, so settings
+ * given on the command line still apply to later classes in the same JVM.
+ *
+ * <p>Register it on an instance field of a {@code BaseApiTest} subclass:
+ * <pre>{@code
+ * @RegisterExtension
+ * final StandInExtension standIn = StandInExtension.seeded(20).property("http.transport", "jdk");
+ * }</pre>
+ * With the per-class lifecycle of {@code BaseApiTest} it runs before {@code @BeforeAll}, so the API clients are
+ * created against the stand-in, and after {@code @AfterAll}.
+ */
+public final class StandInExtension implements BeforeAllCallback, AfterAllCallback {
+
+    private static final String BASE_URL = "base.api.url";
+
+    private final int seededEntities;
+    private final Map<String, String> properties = new LinkedHashMap<>();
+    private final Map<String, String> previous = new HashMap<>();
+    private BooleanSupplier condition = () -> true;
+    private boolean tls;
+    private StandInApiServer server;
+
+    private StandInExtension(int seededEntities) {
+        this.seededEntities = seededEntities;
+    }
+
+    /**
+     * Creates an extension whose stand-in is seeded with books and authors with ids 1..{@code seededEntities}.
+     * @param seededEntities number of books and authors to create
+     * @return extension
+     */
+    public static StandInExtension seeded(int seededEntities) {
+        return new StandInExtension(seededEntities);
+    }
+
+    /**
+     * Sets a system property while the test class runs.
+     * @param key property name
+     * @param value property value
+     * @return this extension
+     */
+    public StandInExtension property(String key, String value) {
+        properties.put(key, value);
+        return this;
+    }
+
+    /**
+     * Points the API clients at the HTTPS connector of the stand-in and makes them trust its self-signed certificate.
+     * @return this extension
+     */
+    public StandInExtension tls() {
+        this.tls = true;
+        return property("tls.trust.all", "true");
+    }
+
+    /**
+     * Starts the stand-in only if the condition holds when the class starts, e.g. when no API URL was given.
+     * @param condition start condition
+     * @return this extension
+     */
+    public StandInExtension onlyIf(BooleanSupplier condition) {
+        this.condition = condition;
+        return this;
+    }
+
+    /**
+     * Returns the running stand-in.
+     * @return stand-in, or null if it was not started
+     */
+    public StandInApiServer server() {
+        return server;
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (!condition.getAsBoolean()) return;
+        server = tls ? StandInApiServer.startWithTls(seededEntities) : StandInApiServer.start(seededEntities);
+        set(BASE_URL, tls ? server.httpsBaseUrl() : server.baseUrl());
+        properties.forEach(this::set);
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) throws Exception {
+        previous.forEach((key, value) -> {
+            if (value == null) {
+                System.clearProperty(key);
+            } else {
+                System.setProperty(key, value);
+            }
+        });
+        previous.clear();
+        if (server != null) server.close();
+        server = null;
+    }
+
+    private void set(String key, String value) {
+        if (!previous.containsKey(key)) previous.put(key, System.getProperty(key));
+        System.setProperty(key, value);
+    }
+}
@@ -0,0 +1,69 @@
+package com.fakeRestApi.tests.support;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.model.Parameter;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Resources one test used, measured by {@link TestCostMeter}. CPU time and allocation are those of the test thread,
+ * so work handed to other threads, e.g. parallel batch lookups, shows up only in wall time and HTTP figures.
+ *
+ * @param test            test display name
+ * @param wallMillis      wall-clock time
+ * @param cpuMillis       CPU time of the test thread, -1 if the JVM does not measure it
+ * @param allocatedBytes  bytes allocated by the test thread, -1 if the JVM does not measure it
+ * @param httpCalls       HTTP calls recorded in the endpoint metrics
+ * @param bytesSent       bytes sent by these calls
+ * @param bytesReceived   bytes received by these calls
+ */
+public record TestCost(String test, double wallMillis, double cpuMillis, long allocatedBytes,
+                       long httpCalls, long bytesSent, long bytesReceived) {
+
+    /**
+     * Adds the figures to the current Allure test case as parameters. They are excluded from the history id, so
+     * differing figures do not split a test's history.
+     */
+    public void publish() {
+        parameter("wall ms", String.format("%.1f", wallMillis));
+        parameter("thread cpu ms", String.format("%.1f", cpuMillis));
+        parameter("thread allocated KB", String.format("%.1f", allocatedBytes / 1024.0));
+        parameter("http calls", httpCalls);
+        parameter("bytes sent", bytesSent);
+        parameter("bytes received", bytesReceived);
+    }
+
+    /**
+     * Renders costs as a plain-text table, most CPU-intensive test first, followed by the totals.
+     * @param costs costs of the tests of a suite
+     * @return formatted summary
+     */
+    public static String summary(List<TestCost> costs) {
+        String row = "%-60s %10s %10s %12s %8s %10s %12s%n";
+        StringBuilder summary = new StringBuilder(String.format(row,
+                "test", "wall ms", "cpu ms", "alloc KB", "calls", "sent KB", "received KB"));
+        costs.stream()
+                .sorted(Comparator.comparingDouble(TestCost::cpuMillis).reversed())
+                .forEach(cost -> summary.append(cost.format(row)));
+        TestCost total = new TestCost("total (" + costs.size() + " tests)",
+                costs.stream().mapToDouble(TestCost::wallMillis).sum(),
+                costs.stream().mapToDouble(TestCost::cpuMillis).sum(),
+                costs.stream().mapToLong(TestCost::allocatedBytes).sum(),
+                costs.stream().mapToLong(TestCost::httpCalls).sum(),
+                costs.stream().mapToLong(TestCost::bytesSent).sum(),
+                costs.stream().mapToLong(TestCost::bytesReceived).sum());
+        return summary.append(total.format(row)).toString();
+    }
+
+    private String format(String row) {
+        String name = test.length() > 60 ? test.substring(0, 57) + "..." : test;
+        return String.format(row, name, String.format("%.1f", wallMillis), String.format("%.1f", cpuMillis),
+                String.format("%.1f", allocatedBytes / 1024.0), httpCalls,
+                String.format("%.1f", bytesSent / 1024.0), String.format("%.1f", bytesReceived / 1024.0));
+    }
+
+    private static void parameter(String name, Object value) {
+        Allure.parameter(name, value, true, Parameter.Mode.DEFAULT);
+    }
+}
@@ -0,0 +1,73 @@
+package com.fakeRestApi.tests.support;
+
+import com.fakeRestApi.metrics.EndpointMetrics;
+import com.fakeRestApi.metrics.EndpointSummary;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the {@link TestCost} of one test from its start to its end on the test thread.
+ * HTTP figures are the difference of the process-wide {@link EndpointMetrics} totals, so they include calls made
+ * by other threads of the test and, with tests running concurrently in one JVM, by other tests.
+ */
+public final class TestCostMeter {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final long thread = Thread.currentThread().threadId();
+    private final long startNanos;
+    private final long startCpu;
+    private final long startAllocated;
+    private final long[] startHttp;
+
+    private TestCostMeter() {
+        startHttp = httpTotals();
+        startAllocated = allocated(thread);
+        startCpu = cpu();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Starts measuring on the current thread.
+     * @return running meter
+     */
+    public static TestCostMeter start() {
+        return new TestCostMeter();
+    }
+
+    /**
+     * Ends the measurement; must be called on the thread that started it.
+     * @param test test display name
+     * @return cost of the test
+     */
+    public TestCost stop(String test) {
+        long wall = System.nanoTime() - startNanos;
+        long cpu = cpu();
+        long allocated = allocated(thread);
+        long[] http = httpTotals();
+        return new TestCost(test,
+                wall / 1_000_000.0,
+                cpu < 0 || startCpu < 0 ? -1 : (cpu - startCpu) / 1_000_000.0,
+                allocated < 0 || startAllocated < 0 ? -1 : allocated - startAllocated,
+                http[0] - startHttp[0], http[1] - startHttp[1], http[2] - startHttp[2]);
+    }
+
+    private static long cpu() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+
+    private static long allocated(long thread) {
+        return THREADS.isThreadAllocatedMemorySupported() ? THREADS.getThreadAllocatedBytes(thread) : -1;
+    }
+
+    private static long[] httpTotals() {
+        long[] totals = new long[3];
+        for (EndpointSummary endpoint : EndpointMetrics.snapshot()) {
+            totals[0] += endpoint.count();
+            totals[1] += endpoint.requestBytes();
+            totals[2] += endpoint.responseBytes();
+        }
+        return totals;
+    }
+}
@@ -0,0 +1,66 @@
+package com.fakeRestApi.tests.transport;
+
+import com.fakeRestApi.apiClient.ConcurrencyLimiter;
+import com.fakeRestApi.models.Book;
+import com.fakeRestApi.tests.BaseApiTest;
+import com.fakeRestApi.tests.support.StandInExtension;
+import com.fakeRestApi.utils.BatchResult;
+import io.qameta.allure.Allure;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.Story;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@Tag("timing")
+@Epic("Fake REST API tests")
+@Feature("HTTP transport")
+@Story("Adaptive concurrency limit")
+@ExtendWith(SoftAssertionsExtension.class)
+public class AdaptiveConcurrencyTests extends BaseApiTest {
+
+    private static final int SEEDED_ENTITIES = 600;
+    private static final int SERVER_CAPACITY = 8;
+    private static final int PARALLELISM = 64;
+    private static final int INITIAL_LIMIT = 4;
+
+    @RegisterExtension
+    final StandInExtension standIn = StandInExtension.seeded(SEEDED_ENTITIES)
+            .property("http.transport", "jdk")
+            .property("batch.parallelism", String.valueOf(PARALLELISM))
+            .property("concurrency.limit.enabled", "true")
+            .property("concurrency.limit.initial", String.valueOf(INITIAL_LIMIT))
+            .property("concurrency.limit.tolerance", "2");
+
+    @Test
+    @Description("Verify that the adaptive limit grows from its start and settles below the batch parallelism on a saturated target")
+    @Severity(SeverityLevel.NORMAL)
+    void checkLimitAdaptsToTargetCapacity(SoftAssertions softly) {
+        standIn.server().capacity(SERVER_CAPACITY, Duration.ofMillis(20));
+        List<Integer> ids = IntStream.rangeClosed(1, SEEDED_ENTITIES).boxed().toList();
+
+        BatchResult<Integer, Book> result = booksApi.getBooksByIds(ids);
+        ConcurrencyLimiter.Snapshot limiter = ConcurrencyLimiter.forTarget(standIn.server().baseUrl()).snapshot();
+        Allure.addAttachment("Adaptive concurrency limit", "text/plain", ConcurrencyLimiter.report());
+
+        softly.assertThat(result.failures()).as("All books should be fetched").isEmpty();
+        softly.assertThat(limiter.calls()).as("Every call should pass the limiter").isEqualTo(SEEDED_ENTITIES);
+        softly.assertThat(limiter.limit()).as("Limit should grow while latency stays near the baseline")
+                .isGreaterThan(INITIAL_LIMIT);
+        softly.assertThat(limiter.backoffs()).as("Limit should back off once the target queues requests")
+                .isPositive();
+        softly.assertThat(limiter.maxInFlight()).as("Calls in flight should stay well below the batch parallelism")
+                .isLessThan(PARALLELISM / 2);
+    }
+}
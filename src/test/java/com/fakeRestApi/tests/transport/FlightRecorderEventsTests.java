@@ -0,0 +1,83 @@
+package com.fakeRestApi.tests.transport;
+
+import com.fakeRestApi.tests.BaseApiTest;
+import com.fakeRestApi.tests.support.StandInExtension;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.Story;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.apache.http.HttpStatus.SC_NOT_FOUND;
+import static org.apache.http.HttpStatus.SC_OK;
+
+@Epic("Fake REST API tests")
+@Feature("HTTP transport")
+@Story("Flight Recorder events")
+@ExtendWith(SoftAssertionsExtension.class)
+public class FlightRecorderEventsTests extends BaseApiTest {
+
+    private static final String HTTP_REQUEST = "com.fakeRestApi.HttpRequest";
+    private static final String ASSERTION = "com.fakeRestApi.Assertion";
+
+    @RegisterExtension
+    final StandInExtension standIn = StandInExtension.seeded(10);
+
+    @Test
+    @Description("Verify that API calls and response assertions are recorded as Flight Recorder events")
+    @Severity(SeverityLevel.MINOR)
+    void checkCallsAndAssertionsAreRecorded(SoftAssertions softly) throws Exception {
+        Path file = Files.createTempFile("fake-rest-api", ".jfr");
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(HTTP_REQUEST);
+            recording.enable(ASSERTION);
+            recording.start();
+            booksApi.getBookById(1).verify()
+                    .verifyStatusCodeOk()
+                    .validateJsonSchema("schemas/singleBook.json");
+            booksApi.getBookById(Integer.MAX_VALUE).verify().verifyStatusCodeNotFound();
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        List<RecordedEvent> requests = events.stream().filter(e -> e.getEventType().getName().equals(HTTP_REQUEST)).toList();
+        softly.assertThat(requests).as("HTTP request events").hasSize(2);
+        softly.assertThat(requests).allSatisfy(request -> {
+            softly.assertThat(request.getString("method")).isEqualTo("GET");
+            softly.assertThat(request.getString("endpoint")).isEqualTo("/Books/{id}");
+        });
+        softly.assertThat(requests.stream().map(request -> request.getInt("status")).toList())
+                .containsExactlyInAnyOrder(SC_OK, SC_NOT_FOUND);
+        softly.assertThat(requests)
+                .filteredOn(request -> request.getInt("status") == SC_OK)
+                .singleElement()
+                .satisfies(request -> softly.assertThat(request.getLong("bytesReceived")).as("Bytes received").isPositive());
+
+        List<RecordedEvent> assertions = events.stream().filter(e -> e.getEventType().getName().equals(ASSERTION)).toList();
+        softly.assertThat(assertions.stream().map(assertion -> assertion.getString("step")).toList())
+                .as("Assertion steps")
+                .containsExactlyInAnyOrder("hasStatusCode", "validateJsonSchema", "hasStatusCode");
+        softly.assertThat(assertions)
+                .filteredOn(assertion -> assertion.getString("step").equals("validateJsonSchema"))
+                .singleElement()
+                .satisfies(assertion -> softly.assertThat(assertion.getString("subject")).isEqualTo("schemas/singleBook.json"));
+        softly.assertThat(assertions).allSatisfy(assertion -> softly.assertThat(assertion.getBoolean("passed")).isTrue());
+    }
+}
@@ -0,0 +1,104 @@
+package com.fakeRestApi.tests.transport;
+
+import com.fakeRestApi.apiClient.ConcurrencyLimiter;
+import com.fakeRestApi.models.Book;
+import com.fakeRestApi.tests.BaseApiTest;
+import com.fakeRestApi.tests.support.StandInExtension;
+import com.fakeRestApi.utils.LatencyAssertions;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.Story;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.time.Duration;
+
+import static org.apache.http.HttpStatus.SC_OK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("timing")
+@Epic("Fake REST API tests")
+@Feature("HTTP transport")
+@Story("Hedged requests")
+public class HedgingTransportTests extends BaseApiTest {
+
+    private static final int SEEDED_ENTITIES = 20;
+    private static final Duration STALL = Duration.ofSeconds(3);
+
+    @RegisterExtension
+    final StandInExtension standIn = StandInExtension.seeded(SEEDED_ENTITIES)
+            .property("http.transport", "jdk")
+            .property("hedging.enabled", "true")
+            .property("hedging.min.samples", "0")
+            .property("hedging.min.delay.ms", "200")
+            .property("hedging.max.ratio", "0.5")
+            .property("concurrency.limit.enabled", "true")
+            // Only a call held up by a stall may count as slow, not the jitter of local calls
+            .property("concurrency.limit.tolerance", "1000");
+
+    @Test
+    @Description("Verify that hedged GET /Books/{id} calls are not held up by stalled responses")
+    @Severity(SeverityLevel.NORMAL)
+    void checkHedgedGetsAvoidStalledResponses() {
+        standIn.server().stallEvery(4, STALL);
+        long requestsBefore = standIn.server().requestCount();
+        int iterations = 20;
+
+        LatencyAssertions.measure(() -> booksApi.getBookById(1))
+                .iterations(iterations)
+                .verifyAllStatusCodes(SC_OK)
+                .verifyP99Below(STALL.dividedBy(2));
+
+        assertThat(standIn.server().requestCount() - requestsBefore)
+                .as("Stalled calls should have been hedged with duplicate requests")
+                .isGreaterThan(iterations);
+        Book book = booksApi.getBookById(2).asPojo();
+        assertThat(book.id()).as("Hedged call should return the requested book").isEqualTo(2);
+    }
+
+    @Test
+    @Description("Verify that hedged requests cancelled after losing do not lower the concurrency limit")
+    @Severity(SeverityLevel.NORMAL)
+    void checkCancelledHedgesKeepConcurrencyLimit() throws InterruptedException {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.forTarget(standIn.server().baseUrl());
+        standIn.server().stallEvery(4, STALL);
+        ConcurrencyLimiter.Snapshot before = limiter.snapshot();
+        long requestsBefore = standIn.server().requestCount();
+        int iterations = 20;
+
+        LatencyAssertions.measure(() -> booksApi.getBookById(1))
+                .iterations(iterations)
+                .verifyAllStatusCodes(SC_OK);
+
+        ConcurrencyLimiter.Snapshot after = awaitNoCallsInFlight(limiter);
+        assertThat(standIn.server().requestCount() - requestsBefore)
+                .as("Stalled calls should have been hedged with duplicate requests")
+                .isGreaterThan(iterations);
+        assertThat(after.backoffs())
+                .as("Cancelled losing requests should not count as overload")
+                .isEqualTo(before.backoffs());
+        assertThat(after.limit())
+                .as("Concurrency limit should not fall because of hedging")
+                .isGreaterThanOrEqualTo(before.limit());
+        assertThat(after.inFlight())
+                .as("Cancelled requests should free their permits")
+                .isZero();
+    }
+
+    /**
+     * Waits for the cancelled losing requests, which complete on their own threads, to leave the limiter.
+     */
+    private static ConcurrencyLimiter.Snapshot awaitNoCallsInFlight(ConcurrencyLimiter limiter) throws InterruptedException {
+        long deadline = System.nanoTime() + STALL.toNanos();
+        ConcurrencyLimiter.Snapshot snapshot = limiter.snapshot();
+        while (snapshot.inFlight() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            snapshot = limiter.snapshot();
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,136 @@
+package com.fakeRestApi.tests.transport;
+
+import com.fakeRestApi.models.Book;
+import com.fakeRestApi.tests.BaseApiTest;
+import com.fakeRestApi.tests.support.StandInExtension;
+import com.fakeRestApi.utils.BatchResult;
+import com.fakeRestApi.utils.ResponseParser;
+import com.fakeRestApi.utils.TestDataManager;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.Story;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.eclipse.jetty.http.HttpVersion;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.apache.http.HttpStatus.SC_NOT_FOUND;
+import static org.apache.http.HttpStatus.SC_OK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@Epic("Fake REST API tests")
+@Feature("HTTP transport")
+@Story("HTTP/2 transport")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(SoftAssertionsExtension.class)
+public class Http2TransportTests extends BaseApiTest {
+
+    private static final int SEEDED_ENTITIES = 50;
+    private static final int PARALLEL_CALLS = 200;
+
+    @RegisterExtension
+    final StandInExtension standIn = StandInExtension.seeded(SEEDED_ENTITIES)
+            .property("http.transport", "http2");
+
+    @Test
+    @Order(1)
+    @Description("Verify that parallel calls over the HTTP/2 transport are multiplexed over a single connection")
+    @Severity(SeverityLevel.NORMAL)
+    void checkParallelCallsShareHttp2Connection(SoftAssertions softly) throws Exception {
+        // The first call upgrades the connection to h2c; later calls open streams on it
+        assertThat(booksApi.getBooks().statusCode()).isEqualTo(SC_OK);
+
+        List<Future<ResponseParser<Book>>> calls = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < PARALLEL_CALLS; i++) {
+                int id = i % SEEDED_ENTITIES + 1;
+                calls.add(executor.submit(() -> booksApi.getBookById(id)));
+            }
+        }
+        for (int i = 0; i < PARALLEL_CALLS; i++) {
+            ResponseParser<Book> response = calls.get(i).get();
+            softly.assertThat(response.statusCode())
+                    .as("GET /Books/{id} call %d should succeed", i)
+                    .isEqualTo(SC_OK);
+            softly.assertThat(response.asPojo().id())
+                    .as("GET /Books/{id} call %d should return the requested book", i)
+                    .isEqualTo(i % SEEDED_ENTITIES + 1);
+        }
+
+        softly.assertThat(standIn.server().versions())
+                .as("Requests should arrive over HTTP/2")
+                .contains(HttpVersion.HTTP_2);
+        softly.assertThat(standIn.server().clientConnections())
+                .as("Parallel calls should share a single connection")
+                .isEqualTo(1);
+    }
+
+    @Test
+    @Order(2)
+    @Description("Verify that create, read, update and delete calls work over the HTTP/2 transport")
+    @Severity(SeverityLevel.NORMAL)
+    void checkCrudRoundTripOverHttp2(SoftAssertions softly) {
+        Book book = TestDataManager.generateValidBookBuilder().id(SEEDED_ENTITIES + 1).build();
+
+        ResponseParser<Book> created = booksApi.createBook(book);
+        softly.assertThat(created.statusCode()).as("POST /Books should succeed").isEqualTo(SC_OK);
+        softly.assertThat(created.getContentType()).as("POST /Books content type").startsWith("application/json");
+        softly.assertThat(created.asPojo()).as("Created book should echo the sent book").isEqualTo(book);
+
+        Book updated = book.toBuilder().title("Updated over HTTP/2").build();
+        softly.assertThat(booksApi.updateBook(book.id(), updated).asPojo())
+                .as("Updated book should echo the sent book")
+                .isEqualTo(updated);
+        softly.assertThat(booksApi.getBookById(book.id()).asPojo())
+                .as("Fetched book should reflect the update")
+                .isEqualTo(updated);
+
+        softly.assertThat(booksApi.deleteBook(book.id()).statusCode()).as("DELETE /Books/{id} should succeed").isEqualTo(SC_OK);
+        softly.assertThat(booksApi.getBookById(book.id()).statusCode())
+                .as("Deleted book should not be found")
+                .isEqualTo(SC_NOT_FOUND);
+        softly.assertThat(authorsApi.getAuthors().size())
+                .as("GET /Authors should return the seeded authors")
+                .isEqualTo(SEEDED_ENTITIES);
+    }
+
+    @Test
+    @Order(3)
+    @Description("Verify that every listed book can be fetched by ID in one parallel batch, with missing IDs reported in order")
+    @Severity(SeverityLevel.NORMAL)
+    void checkAllBooksCanBeFetchedByIdsInBatch(SoftAssertions softly) {
+        List<Book> books = booksApi.getBooks().asListOfPojo();
+        List<Integer> ids = new ArrayList<>();
+        ids.add(SEEDED_ENTITIES + 3);
+        books.forEach(book -> ids.add(book.id()));
+        ids.add(SEEDED_ENTITIES + 2);
+
+        BatchResult<Integer, Book> result = booksApi.getBooksByIds(ids);
+
+        softly.assertThat(result.failures())
+                .as("Only the missing IDs should fail, in the order they were given")
+                .containsExactly(entry(SEEDED_ENTITIES + 3, SC_NOT_FOUND), entry(SEEDED_ENTITIES + 2, SC_NOT_FOUND));
+        softly.assertThat(result.size())
+                .as("Batch should contain one result per distinct ID")
+                .isEqualTo(ids.size());
+        books.forEach(book -> softly.assertThat(result.body(book.id()))
+                .as("Batch title should match the listed title for ID %s", book.id())
+                .extracting(Book::title)
+                .isEqualTo(book.title()));
+    }
+}
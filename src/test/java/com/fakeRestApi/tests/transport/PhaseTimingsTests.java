@@ -0,0 +1,48 @@
+package com.fakeRestApi.tests.transport;
+
+import com.fakeRestApi.metrics.RequestTimings;
+import com.fakeRestApi.models.Book;
+import com.fakeRestApi.tests.BaseApiTest;
+import com.fakeRestApi.tests.support.StandInExtension;
+import com.fakeRestApi.utils.ResponseParser;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.Story;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.apache.http.HttpStatus.SC_OK;
+
+@Epic("Fake REST API tests")
+@Feature("HTTP transport")
+@Story("HTTP phase timings")
+@ExtendWith(SoftAssertionsExtension.class)
+public class PhaseTimingsTests extends BaseApiTest {
+
+    @RegisterExtension
+    final StandInExtension standIn = StandInExtension.seeded(5)
+            .tls()
+            .property("http.transport", "restassured");
+
+    @Test
+    @Description("Verify that a call over a new HTTPS connection records DNS, connect, TLS handshake and time-to-first-byte")
+    @Severity(SeverityLevel.NORMAL)
+    void checkNewHttpsConnectionRecordsEveryPhase(SoftAssertions softly) {
+        ResponseParser<Book> response = booksApi.getBookById(1);
+        RequestTimings timings = response.timings();
+
+        softly.assertThat(response.statusCode()).isEqualTo(SC_OK);
+        softly.assertThat(timings.dnsNanos()).as("DNS").isPositive();
+        softly.assertThat(timings.connectNanos()).as("Connect").isPositive();
+        softly.assertThat(timings.tlsNanos()).as("TLS handshake").isPositive();
+        softly.assertThat(timings.ttfbNanos()).as("Time to first byte").isPositive();
+        softly.assertThat(timings.requestBytes()).as("Bytes sent").isPositive();
+        softly.assertThat(timings.responseBytes()).as("Bytes received").isGreaterThan(timings.decodedBodyBytes());
+    }
+}
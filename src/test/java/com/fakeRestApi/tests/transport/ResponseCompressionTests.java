@@ -0,0 +1,65 @@
+package com.fakeRestApi.tests.transport;
+
+import com.fakeRestApi.models.Book;
+import com.fakeRestApi.tests.BaseApiTest;
+import com.fakeRestApi.tests.support.StandInApiServer.Compression;
+import com.fakeRestApi.tests.support.StandInExtension;
+import com.fakeRestApi.utils.ResponseParser;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.Story;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@Epic("Fake REST API tests")
+@Feature("HTTP transport")
+@Story("Response compression")
+@ExtendWith(SoftAssertionsExtension.class)
+public class ResponseCompressionTests extends BaseApiTest {
+
+    private static final int SEEDED_ENTITIES = 50;
+
+    @RegisterExtension
+    final StandInExtension standIn = StandInExtension.seeded(SEEDED_ENTITIES);
+
+    @ParameterizedTest(name = "GET /Books should be decoded from {0}")
+    @EnumSource(value = Compression.class, names = {"GZIP", "DEFLATE", "RAW_DEFLATE"})
+    @Description("Verify that compressed response bodies are negotiated, transferred smaller than decoded and parsed")
+    @Severity(SeverityLevel.NORMAL)
+    void checkCompressedBodyIsDecoded(Compression compression, SoftAssertions softly) {
+        standIn.server().compression(compression);
+
+        ResponseParser<Book> response = booksApi.getBooks();
+        response.verify()
+                .verifyStatusCodeOk()
+                .verifyContentEncoding(compression.coding())
+                .verifyCompressed();
+
+        softly.assertThat(response.timings().wireBodyBytes()).as("Body bytes on the wire").isPositive();
+        softly.assertThat(response.asListOfPojo()).as("Decoded books").hasSize(SEEDED_ENTITIES);
+    }
+
+    @Test
+    @Description("Verify that uncompressed response bodies are recorded with the identity coding")
+    @Severity(SeverityLevel.MINOR)
+    void checkUncompressedBodyIsIdentity(SoftAssertions softly) {
+        standIn.server().compression(Compression.NONE);
+
+        ResponseParser<Book> response = booksApi.getBooks();
+        response.verify()
+                .verifyStatusCodeOk()
+                .verifyContentEncoding("identity");
+
+        softly.assertThat(response.timings().wireBodyBytes()).as("Body bytes on the wire")
+                .isEqualTo(response.timings().decodedBodyBytes());
+        softly.assertThat(response.asListOfPojo()).as("Decoded books").hasSize(SEEDED_ENTITIES);
+    }
+}
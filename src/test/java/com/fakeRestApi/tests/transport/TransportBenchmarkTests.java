@@ -0,0 +1,113 @@
+package com.fakeRestApi.tests.transport;
+
+import com.fakeRestApi.apiClient.HttpTransport;
+import com.fakeRestApi.apiClient.JdkHttpTransport;
+import com.fakeRestApi.apiClient.RequestTemplate;
+import com.fakeRestApi.apiClient.RestAssuredTransport;
+import com.fakeRestApi.models.Book;
+import com.fakeRestApi.tests.BaseApiTest;
+import com.fakeRestApi.tests.support.StandInExtension;
+import com.fakeRestApi.utils.ResponseParser;
+import io.qameta.allure.Allure;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.lang.management.ManagementFactory;
+import java.net.http.HttpClient;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.fakeRestApi.apiClient.BooksApi.BOOKS_PATH;
+import static org.apache.http.HttpStatus.SC_OK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the client-side cost per request of the HTTP transports against a local stand-in.
+ * The calling thread figures cover the work done on the test thread; the process figures add the work of
+ * the HTTP client's own threads, and the stand-in's share, which is the same for every transport.
+ */
+@Slf4j
+@Tag("benchmark")
+@Epic("Fake REST API tests")
+@Feature("HTTP transport")
+@Story("Transport benchmark")
+public class TransportBenchmarkTests extends BaseApiTest {
+
+    private static final int SEEDED_ENTITIES = 100;
+    private static final int WARM_UP = Integer.getInteger("benchmark.warmUp", 500);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 2000);
+    private static final RequestTemplate GET_BOOK = RequestTemplate.get(BOOKS_PATH + "/{id}");
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final com.sun.management.OperatingSystemMXBean os =
+            (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+    @RegisterExtension
+    final StandInExtension standIn = StandInExtension.seeded(SEEDED_ENTITIES);
+
+    private record Cost(double threadCpuMicros, double threadAllocatedKb, double processCpuMicros, double processAllocatedKb) {}
+
+    @Test
+    @Description("Compare per-request CPU time and allocation of the RestAssured and JDK transports")
+    void compareTransportCostPerRequest() {
+        Map<String, HttpTransport> transports = new LinkedHashMap<>();
+        transports.put("restassured", new RestAssuredTransport());
+        transports.put("jdk http/1.1", JdkHttpTransport.fromConfig(HttpClient.Version.HTTP_1_1));
+        transports.put("jdk http/2", JdkHttpTransport.fromConfig(HttpClient.Version.HTTP_2));
+
+        StringBuilder report = new StringBuilder(String.format("%-14s %14s %14s %14s %14s%n",
+                "transport", "thread cpu us", "thread alloc KB", "process cpu us", "process alloc KB"));
+        for (Map.Entry<String, HttpTransport> transport : transports.entrySet()) {
+            Cost cost = measure(transport.getValue());
+            report.append(String.format("%-14s %14.1f %14.1f %14.1f %14.1f%n", transport.getKey(),
+                    cost.threadCpuMicros(), cost.threadAllocatedKb(), cost.processCpuMicros(), cost.processAllocatedKb()));
+        }
+
+        log.info("Per-request cost over {} {} calls:\n{}", REQUESTS, GET_BOOK, report);
+        Allure.addAttachment("Transport cost per request", "text/plain", report.toString());
+    }
+
+    private Cost measure(HttpTransport transport) {
+        for (int i = 0; i < WARM_UP; i++) {
+            call(transport, i);
+        }
+        long thread = Thread.currentThread().threadId();
+        long threadCpu = threads.getCurrentThreadCpuTime();
+        long threadAllocated = threads.getThreadAllocatedBytes(thread);
+        long processCpu = os.getProcessCpuTime();
+        long processAllocated = allocatedByAllThreads();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            call(transport, i);
+        }
+
+        return new Cost(
+                (threads.getCurrentThreadCpuTime() - threadCpu) / 1_000.0 / REQUESTS,
+                (threads.getThreadAllocatedBytes(thread) - threadAllocated) / 1024.0 / REQUESTS,
+                (os.getProcessCpuTime() - processCpu) / 1_000.0 / REQUESTS,
+                (allocatedByAllThreads() - processAllocated) / 1024.0 / REQUESTS);
+    }
+
+    private void call(HttpTransport transport, int i) {
+        ResponseParser<Book> response = transport.send(GET_BOOK, null, Book.class, i % SEEDED_ENTITIES + 1);
+        assertThat(response.statusCode()).isEqualTo(SC_OK);
+    }
+
+    /**
+     * Sums allocation over live threads; threads that ended during the run are not counted.
+     */
+    private long allocatedByAllThreads() {
+        long total = 0;
+        for (long allocated : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            if (allocated > 0) total += allocated;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,116 @@
+package com.fakeRestApi.tests.transport;
+
+import com.fakeRestApi.apiClient.HttpTransport;
+import com.fakeRestApi.apiClient.JdkHttpTransport;
+import com.fakeRestApi.apiClient.RequestTemplate;
+import com.fakeRestApi.apiClient.RestAssuredTransport;
+import com.fakeRestApi.models.Book;
+import com.fakeRestApi.serialization.GeneratedJsonBody;
+import com.fakeRestApi.tests.BaseApiTest;
+import com.fakeRestApi.tests.support.StandInApiServer;
+import com.fakeRestApi.tests.support.StandInExtension;
+import com.fakeRestApi.utils.ResponseParser;
+import com.fakeRestApi.utils.TestDataManager;
+import io.qameta.allure.Allure;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.net.http.HttpClient;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.fakeRestApi.apiClient.BooksApi.BOOKS_PATH;
+import static org.apache.http.HttpStatus.SC_OK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the upload throughput of generated multi-megabyte book bodies per HTTP transport against a local stand-in,
+ * which counts and discards the bodies. Request and response logging is enabled, so the RestAssured transport sends
+ * the body through its Allure and logging filters as well. Each upload must go out with an unknown length and be
+ * generated while it is sent: when the stand-in starts handling the request, part of the body must not exist yet.
+ */
+@Slf4j
+@Tag("benchmark")
+@Epic("Fake REST API tests")
+@Feature("HTTP transport")
+@Story("Upload benchmark")
+public class UploadBenchmarkTests extends BaseApiTest {
+
+    private static final long FIELD_BYTES = Long.getLong("benchmark.uploadFieldBytes", 16L * 1024 * 1024);
+    private static final int UPLOADS = Integer.getInteger("benchmark.uploads", 3);
+    private static final RequestTemplate GET_BOOK = RequestTemplate.get(BOOKS_PATH + "/{id}");
+    private static final RequestTemplate CREATE_BOOK = RequestTemplate.post(BOOKS_PATH);
+
+    @RegisterExtension
+    final StandInExtension standIn = StandInExtension.seeded(1).property("log.level", "DEBUG");
+
+    private record Throughput(double bestMbPerSecond, double meanMbPerSecond) {}
+
+    @Test
+    @Description("Measure the upload throughput of streamed generated bodies and verify they are not buffered")
+    void measureStreamedUploadThroughput() {
+        standIn.server().discardBodies(true);
+        Map<String, HttpTransport> transports = new LinkedHashMap<>();
+        transports.put("restassured", new RestAssuredTransport());
+        transports.put("jdk http/1.1", JdkHttpTransport.fromConfig(HttpClient.Version.HTTP_1_1));
+        transports.put("jdk http/2", JdkHttpTransport.fromConfig(HttpClient.Version.HTTP_2));
+
+        StringBuilder report = new StringBuilder(String.format("%-14s %14s %14s%n", "transport", "best MiB/s", "mean MiB/s"));
+        for (Map.Entry<String, HttpTransport> transport : transports.entrySet()) {
+            Throughput throughput = measure(transport.getKey(), transport.getValue());
+            report.append(String.format("%-14s %14.1f %14.1f%n",
+                    transport.getKey(), throughput.bestMbPerSecond(), throughput.meanMbPerSecond()));
+        }
+
+        log.info("Upload throughput over {} uploads of {} MiB bodies:\n{}", UPLOADS, 2 * FIELD_BYTES >> 20, report);
+        Allure.addAttachment("Upload throughput", "text/plain", report.toString());
+    }
+
+    private Throughput measure(String name, HttpTransport transport) {
+        // Opens the connection with a body-less call, so that HTTP/2 is already negotiated for the uploads
+        assertThat(transport.send(GET_BOOK, null, Book.class, 1).statusCode()).isEqualTo(SC_OK);
+        upload(name, transport);
+
+        double best = 0;
+        double sum = 0;
+        for (int i = 0; i < UPLOADS; i++) {
+            double mbPerSecond = upload(name, transport);
+            best = Math.max(best, mbPerSecond);
+            sum += mbPerSecond;
+        }
+        return new Throughput(best, sum / UPLOADS);
+    }
+
+    /**
+     * Sends one generated body and returns its throughput in MiB per second.
+     */
+    private double upload(String name, HttpTransport transport) {
+        GeneratedJsonBody body = TestDataManager.largeBookBody(FIELD_BYTES, FIELD_BYTES);
+        AtomicLong producedAtDispatch = new AtomicLong(-1);
+        standIn.server().onUpload(() -> producedAtDispatch.set(body.produced()));
+
+        long start = System.nanoTime();
+        ResponseParser<Book> response = transport.send(CREATE_BOOK, body, Book.class);
+        long elapsed = System.nanoTime() - start;
+
+        StandInApiServer.Upload upload = standIn.server().lastUpload();
+        assertThat(response.statusCode()).as("Upload over %s should succeed", name).isEqualTo(SC_OK);
+        assertThat(upload.receivedBytes())
+                .as("Stand-in should receive the whole body over %s", name)
+                .isEqualTo(body.length());
+        assertThat(upload.declaredLength())
+                .as("Body should be sent over %s without a Content-Length, i.e. chunked", name)
+                .isEqualTo(-1);
+        assertThat(producedAtDispatch.get())
+                .as("Body should still be generated over %s when the stand-in starts reading it", name)
+                .isBetween(0L, body.length() - 1);
+        return body.length() / (1024.0 * 1024.0) / (elapsed / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,89 @@
+package com.fakeRestApi.tests.utils;
+
+import com.fakeRestApi.tests.BaseApiTest;
+import com.fakeRestApi.utils.JsonFields;
+import com.fasterxml.jackson.core.JsonParseException;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.Story;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Epic("Fake REST API tests")
+@Feature("Response parsing")
+@Story("Streaming field extraction")
+public class JsonFieldsTests extends BaseApiTest {
+
+    @Test
+    @Description("Verify that integer fields are extracted in array order, with 0 for missing or null values")
+    @Severity(SeverityLevel.NORMAL)
+    void checkIntsAreExtracted() {
+        int[] ids = JsonFields.ints(json("[{\"id\":3,\"tags\":[1,{\"id\":9}]},{\"title\":\"x\"},{\"id\":null},{\"id\":7}]"), "id");
+
+        assertThat(ids).containsExactly(3, 0, 0, 7);
+    }
+
+    @Test
+    @Description("Verify that date-times are extracted as epoch milliseconds, with and without zone offset")
+    @Severity(SeverityLevel.NORMAL)
+    void checkEpochMillisAreExtracted() {
+        long[] dates = JsonFields.epochMillis(json("[{\"publishDate\":\"1970-01-01T00:00:01.5Z\"},"
+                + "{\"publishDate\":\"1970-01-01T01:00:00+01:00\"},{\"publishDate\":\"2024-02-29T12:00:00.1234567\"},"
+                + "{\"publishDate\":null}]"), "publishDate");
+
+        assertThat(dates).containsExactly(1_500, 0, 1_709_208_000_123L, Long.MIN_VALUE);
+    }
+
+    @ParameterizedTest(name = "Array element {0} should be rejected")
+    @ValueSource(strings = {"1", "\"a\"", "null", "[]"})
+    @Description("Verify that array elements other than objects are rejected instead of ending the extraction")
+    @Severity(SeverityLevel.NORMAL)
+    void checkNonObjectElementsAreRejected(String element) {
+        byte[] json = json("[{\"id\":1}," + element + ",{\"id\":2}]");
+
+        assertThatThrownBy(() -> JsonFields.ints(json, "id"))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasCauseInstanceOf(JsonParseException.class);
+        assertThatThrownBy(() -> JsonFields.epochMillis(json, "publishDate"))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasCauseInstanceOf(JsonParseException.class);
+    }
+
+    @ParameterizedTest(name = "Value {0} should be rejected")
+    @ValueSource(strings = {"\"1\"", "1.5", "true", "{}"})
+    @Description("Verify that integer fields of another type are rejected instead of read as 0")
+    @Severity(SeverityLevel.NORMAL)
+    void checkMismatchedIntsAreRejected(String value) {
+        assertThatThrownBy(() -> JsonFields.ints(json("[{\"id\":" + value + "}]"), "id"))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasCauseInstanceOf(JsonParseException.class);
+    }
+
+    @ParameterizedTest(name = "Date-time {0} should be rejected")
+    @ValueSource(strings = {"2024-0a-01T00:00:00", "2024-01-01T00:00:00.", "2024-01-01T00-00-00",
+            "2024-01-01T00:00:00+1:00", "2024-01-01T00:00:00Zulu", "not a date at all!!"})
+    @Description("Verify that malformed date-time strings are rejected instead of parsed into wrong values")
+    @Severity(SeverityLevel.NORMAL)
+    void checkMalformedDateTimesAreRejected(String value) {
+        assertThatThrownBy(() -> JsonFields.epochMillis(json("[{\"publishDate\":\"" + value + "\"}]"), "publishDate"))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasCauseInstanceOf(JsonParseException.class)
+                .hasMessageContaining("publishDate");
+        assertThatThrownBy(() -> JsonFields.epochMillis(json("[{\"publishDate\":42}]"), "publishDate"))
+                .hasCauseInstanceOf(JsonParseException.class);
+    }
+
+    private static byte[] json(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}